@@ -0,0 +1,56 @@
+package bookface.logic.parser;
+
+import static bookface.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static bookface.logic.parser.CliSyntax.PREFIX_NAME;
+import static bookface.logic.parser.CliSyntax.PREFIX_PHONE;
+import static bookface.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import bookface.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures tokenizing the arguments of an {@code add user} command with a varying number of tags.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ArgumentTokenizerBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int tagCount;
+
+    private String argsString;
+
+    /**
+     * Builds arguments holding a name, phone and email followed by {@code tagCount} tags.
+     */
+    @Setup
+    public void setUp() {
+        StringBuilder args = new StringBuilder(" n/John Doe p/98765432 e/johnd@example.com");
+        for (int i = 0; i < tagCount; i++) {
+            args.append(" t/tag").append(i);
+        }
+        argsString = args.toString();
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenize() throws ParseException {
+        return ArgumentTokenizer.tokenize(argsString, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_TAG);
+    }
+}
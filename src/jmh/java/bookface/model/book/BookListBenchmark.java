@@ -0,0 +1,60 @@
+package bookface.model.book;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import bookface.testutil.BenchmarkData;
+
+/**
+ * Measures looking up books in a {@code BookList}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class BookListBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private BookList bookList;
+    private Book presentBook;
+    private Book absentBook;
+
+    /**
+     * Fills the book list with {@code size} books.
+     */
+    @Setup
+    public void setUp() {
+        bookList = new BookList();
+        for (int i = 0; i < size; i++) {
+            bookList.add(BenchmarkData.book(i));
+        }
+        // equal to, but not the same object as, the book in the list
+        presentBook = BenchmarkData.book(size / 2);
+        absentBook = BenchmarkData.book(size);
+    }
+
+    @Benchmark
+    public boolean containsPresentBook() {
+        return bookList.contains(presentBook);
+    }
+
+    @Benchmark
+    public boolean containsAbsentBook() {
+        return bookList.contains(absentBook);
+    }
+}
@@ -0,0 +1,83 @@
+package bookface.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import bookface.commons.exceptions.DataConversionException;
+import bookface.model.BookFace;
+import bookface.model.ReadOnlyBookFace;
+import bookface.testutil.BenchmarkData;
+
+/**
+ * Measures saving and reading BookFace data as a json file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class JsonBookFaceStorageBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private Path folder;
+    private JsonBookFaceStorage storage;
+    private BookFace bookFace;
+
+    /**
+     * Saves {@code size} persons and books to a data file in a new temporary folder.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("bookface-benchmark");
+        storage = new JsonBookFaceStorage(folder.resolve("bookface.json"));
+        bookFace = BenchmarkData.generateBookFace(size);
+        storage.saveBookFace(bookFace);
+    }
+
+    /**
+     * Deletes the temporary folder and the data files in it.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        List<Path> paths;
+        try (Stream<Path> walk = Files.walk(folder)) {
+            paths = walk.sorted(Comparator.reverseOrder()).collect(Collectors.toList());
+        }
+        for (Path path : paths) {
+            Files.delete(path);
+        }
+    }
+
+    @Benchmark
+    public void saveBookFace() throws IOException {
+        storage.saveBookFace(bookFace);
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyBookFace> readBookFace() throws DataConversionException {
+        return storage.readBookFace();
+    }
+}
@@ -0,0 +1,45 @@
+package bookface.testutil;
+
+import java.util.List;
+
+import bookface.model.BookFace;
+import bookface.model.book.Book;
+import bookface.model.person.Person;
+
+/**
+ * Generates BookFace data of a given size for the benchmarks.
+ */
+public class BenchmarkData {
+
+    /** One in this many persons borrows a book. */
+    private static final int LOAN_INTERVAL = 10;
+
+    /** Number of distinct authors, so that authors are shared by many books as in a real library. */
+    private static final int AUTHOR_COUNT = 1000;
+
+    /**
+     * Returns the {@code index}th generated book, which is equal to every other book generated with that index.
+     */
+    public static Book book(int index) {
+        return new BookBuilder().withTitle("Book " + index).withAuthor("Author " + (index % AUTHOR_COUNT)).build();
+    }
+
+    /**
+     * Returns a {@code BookFace} holding {@code size} persons and {@code size} books, with one in
+     * {@value #LOAN_INTERVAL} of the persons borrowing a book.
+     */
+    public static BookFace generateBookFace(int size) {
+        BookFaceBuilder builder = new BookFaceBuilder();
+        for (int i = 0; i < size; i++) {
+            Book book = book(i);
+            PersonBuilder personBuilder = new PersonBuilder().withName("Person " + i)
+                    .withPhone(String.valueOf(80000000 + i)).withEmail("person" + i + "@example.com");
+            if (i % LOAN_INTERVAL == 0) {
+                personBuilder.withBooksToLoan(List.of(book));
+            }
+            Person person = personBuilder.build();
+            builder.withPerson(person).withBook(book);
+        }
+        return builder.build();
+    }
+}
@@ -17,6 +17,7 @@ public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private Path batchFilePath;
 
     public Path getConfigPath() {
         return configPath;
@@ -26,6 +27,18 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the file of commands to execute as a batch instead of showing the UI, or {@code null} if the UI
+     * should be shown.
+     */
+    public Path getBatchFilePath() {
+        return batchFilePath;
+    }
+
+    public void setBatchFilePath(Path batchFilePath) {
+        this.batchFilePath = batchFilePath;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
@@ -40,6 +53,13 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String batchFilePathParameter = namedParameters.get("batch");
+        if (batchFilePathParameter != null && !FileUtil.isValidPath(batchFilePathParameter)) {
+            logger.warning("Invalid batch file path " + batchFilePathParameter + ". Showing the UI instead.");
+            batchFilePathParameter = null;
+        }
+        appParameters.setBatchFilePath(batchFilePathParameter != null ? Paths.get(batchFilePathParameter) : null);
+
         return appParameters;
     }
 
@@ -54,11 +74,12 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath());
+        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath())
+                && Objects.equals(getBatchFilePath(), otherAppParameters.getBatchFilePath());
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, batchFilePath);
     }
 }
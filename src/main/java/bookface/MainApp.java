@@ -6,13 +6,17 @@ import java.util.Optional;
 import java.util.logging.Logger;
 
 import bookface.commons.core.Config;
+import bookface.commons.core.DataFileFormat;
 import bookface.commons.core.LogsCenter;
 import bookface.commons.core.Version;
 import bookface.commons.exceptions.DataConversionException;
 import bookface.commons.util.ConfigUtil;
+import bookface.commons.util.FileUtil;
 import bookface.commons.util.StringUtil;
+import bookface.logic.BatchResult;
 import bookface.logic.Logic;
 import bookface.logic.LogicManager;
+import bookface.logic.parser.DateParser;
 import bookface.model.BookFace;
 import bookface.model.Model;
 import bookface.model.ModelManager;
@@ -20,8 +24,9 @@ import bookface.model.ReadOnlyBookFace;
 import bookface.model.ReadOnlyUserPrefs;
 import bookface.model.UserPrefs;
 import bookface.model.util.SampleDataUtil;
+import bookface.storage.BinaryBookFaceStorage;
 import bookface.storage.BookFaceStorage;
-import bookface.storage.JsonBookFaceStorage;
+import bookface.storage.JournaledBookFaceStorage;
 import bookface.storage.JsonUserPrefsStorage;
 import bookface.storage.Storage;
 import bookface.storage.StorageManager;
@@ -29,6 +34,7 @@ import bookface.storage.UserPrefsStorage;
 import bookface.ui.Ui;
 import bookface.ui.UiManager;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 
 /**
@@ -46,6 +52,10 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    /** File of commands executed as a batch instead of showing the UI, if any. */
+    private Path batchFilePath;
+    private boolean isBatchFailed;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing BookFace ]===========================");
@@ -53,14 +63,18 @@ public class MainApp extends Application {
 
         AppParameters appParameters = AppParameters.parse(getParameters());
         config = initConfig(appParameters.getConfigPath());
+        batchFilePath = appParameters.getBatchFilePath();
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        BookFaceStorage bookFaceStorage = new JsonBookFaceStorage(userPrefs.getBookFaceFilePath());
+        BookFaceStorage bookFaceStorage = initBookFaceStorage(config, userPrefs);
         storage = new StorageManager(bookFaceStorage, userPrefsStorage);
 
         initLogging(config);
 
+        // the natural language date parser takes long to create, so it is created while the data is loaded
+        DateParser.getInstance().warmUpInBackground();
+
         model = initModelManager(storage, userPrefs);
 
         logic = new LogicManager(model, storage);
@@ -93,6 +107,29 @@ public class MainApp extends Application {
         return new ModelManager(initialData, userPrefs);
     }
 
+    /**
+     * Returns the {@code BookFaceStorage} for the data file format chosen in {@code userPrefs}. If the binary data
+     * file was saved after the json data file, its data is exported to the json data file first, so that switching
+     * back to json keeps the changes made while the data was stored in binary.
+     */
+    private BookFaceStorage initBookFaceStorage(Config config, ReadOnlyUserPrefs userPrefs) {
+        BinaryBookFaceStorage binaryStorage = new BinaryBookFaceStorage(userPrefs.getBookFaceFilePath());
+        if (userPrefs.getDataFileFormat() == DataFileFormat.BINARY) {
+            return binaryStorage;
+        }
+
+        try {
+            binaryStorage.exportJsonIfNewer();
+        } catch (DataConversionException e) {
+            logger.warning("Binary data file " + binaryStorage.getBookFaceFilePath() + " is not in the correct "
+                    + "format. Its changes will not be exported to the json data file.");
+        } catch (IOException e) {
+            logger.warning("Problem while exporting the binary data file to the json data file: " + e);
+        }
+        return new JournaledBookFaceStorage(userPrefs.getBookFaceFilePath(),
+                JournaledBookFaceStorage.DEFAULT_COMPACTION_THRESHOLD, config.isDataFileCompact());
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -168,16 +205,61 @@ public class MainApp extends Application {
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting BookFace " + MainApp.VERSION);
+        if (batchFilePath != null) {
+            isBatchFailed = !runBatch(batchFilePath);
+            Platform.exit();
+            return;
+        }
         ui.start(primaryStage);
     }
 
+    /**
+     * Executes the commands in {@code batchFilePath} as a batch, and prints the result of each command.
+     * Returns true if every command was executed successfully.
+     */
+    private boolean runBatch(Path batchFilePath) {
+        logger.info("Executing batch file " + batchFilePath);
+        try {
+            BatchResult batchResult = logic.executeBatch(FileUtil.readFromFile(batchFilePath));
+            System.out.println(batchResult.getReport());
+            return batchResult.isSuccessful();
+        } catch (IOException e) {
+            logger.severe("Failed to read batch file " + batchFilePath + ": " + StringUtil.getDetails(e));
+            return false;
+        }
+    }
+
+    /**
+     * Saves the data if it has changed since it was last saved, and waits for it to be written.
+     */
+    private void saveData() {
+        try {
+            logic.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+            isBatchFailed = true;
+        }
+    }
+
     @Override
     public void stop() {
         logger.info("============================ [ Stopping BookFace ] =============================");
+        try {
+            // the data is saved on the thread that runs the commands, once those already entered have run
+            ui.stop(this::saveData);
+        } catch (InterruptedException e) {
+            logger.severe("Interrupted while waiting for the commands entered to run, so the data may not be saved");
+            Thread.currentThread().interrupt();
+            isBatchFailed = true;
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        if (batchFilePath != null && isBatchFailed) {
+            // lets scheduled jobs running a batch tell that it failed
+            System.exit(1);
+        }
     }
 }
@@ -0,0 +1,11 @@
+package bookface.commons.core;
+
+/**
+ * Formats in which BookFace data can be stored on the hard disk.
+ */
+public enum DataFileFormat {
+    /** Human-readable json, which can be edited by hand. */
+    JSON,
+    /** Compact binary snapshot, which is smaller and faster to load. */
+    BINARY
+}
@@ -1,10 +1,17 @@
 package bookface.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -12,6 +19,17 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String BACKUP_FILE_SUFFIX = ".bak";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Writes the contents of a file to a stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -75,9 +93,96 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     * The string is written to a temporary file that then replaces the file, so that the file is never left partly
+     * written.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeToFile(file, out -> out.write(content.getBytes(CHARSET)));
+    }
+
+    /**
+     * Similar to {@link #writeToFile(Path, String)}, but streams the contents from {@code contentWriter} through a
+     * buffer instead of holding them all in memory.
+     */
+    public static void writeToFile(Path file, ContentWriter contentWriter) throws IOException {
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+        writeSynced(tempFile, contentWriter, StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException amnse) {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        syncDirectory(file.toAbsolutePath().getParent());
+    }
+
+    /**
+     * Similar to {@link #writeToFile(Path, String)}, but keeps the current contents of the file, if any, at the path
+     * returned by {@link #getBackupPath(Path)}.
+     */
+    public static void writeToFileKeepingBackup(Path file, String content) throws IOException {
+        writeToFileKeepingBackup(file, out -> out.write(content.getBytes(CHARSET)));
+    }
+
+    /**
+     * Similar to {@link #writeToFile(Path, ContentWriter)}, but keeps the current contents of the file, if any, at
+     * the path returned by {@link #getBackupPath(Path)}.
+     */
+    public static void writeToFileKeepingBackup(Path file, ContentWriter contentWriter) throws IOException {
+        if (Files.exists(file)) {
+            Path backupFile = getBackupPath(file);
+            Files.deleteIfExists(backupFile);
+            try {
+                Files.createLink(backupFile, file);
+            } catch (IOException | UnsupportedOperationException e) {
+                Files.copy(file, backupFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        writeToFile(file, contentWriter);
+    }
+
+    /**
+     * Appends given string to a file, and returns once it has been written to the storage device.
+     * Will create the file if it does not exist yet.
+     */
+    public static void appendToFile(Path file, String content) throws IOException {
+        writeSynced(file, out -> out.write(content.getBytes(CHARSET)), StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Returns the path at which {@link #writeToFileKeepingBackup(Path, String)} keeps the previous contents of
+     * {@code file}.
+     */
+    public static Path getBackupPath(Path file) {
+        return file.resolveSibling(file.getFileName() + BACKUP_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns once the entries of {@code directory}, such as a file renamed into it, have been written to the storage
+     * device. Some platforms, such as Windows, do not allow a directory to be opened for this, and the entries are
+     * then written whenever the platform writes them.
+     */
+    private static void syncDirectory(Path directory) throws IOException {
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(directory, StandardOpenOption.READ);
+        } catch (IOException | UnsupportedOperationException e) {
+            return;
+        }
+        try (channel) {
+            channel.force(true);
+        }
+    }
+
+    private static void writeSynced(Path file, ContentWriter contentWriter, StandardOpenOption mode)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                mode)) {
+            // not closed, as that would close the channel before it is forced
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE);
+            contentWriter.writeTo(out);
+            out.flush();
+            channel.force(true);
+        }
     }
 
 }
@@ -0,0 +1,147 @@
+package bookface.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Represents the result of executing a batch of commands with {@link Logic#executeBatch(String)}.
+ */
+public class BatchResult {
+
+    public static final String MESSAGE_SUCCESS = "Executed %1$d commands in %2$d ms (%3$.0f commands per second).";
+    public static final String MESSAGE_PARSE_FAILURE = "No commands were executed, as %1$d line(s) could not be "
+            + "parsed.";
+    public static final String MESSAGE_ROLLED_BACK = "Line %1$d failed, so the changes made by the batch were undone.";
+    public static final String MESSAGE_LINE_RESULT = "Line %1$d [%2$s] %3$s";
+
+    /**
+     * Outcome of a command in the batch.
+     */
+    public enum Status {
+        /** The command was executed, and its changes were kept. */
+        EXECUTED,
+        /** The command could not be parsed or executed. */
+        FAILED,
+        /** The command was executed, but its changes were undone as a later command failed. */
+        ROLLED_BACK,
+        /** The command was not executed, as another command failed. */
+        NOT_EXECUTED
+    }
+
+    /**
+     * Represents the outcome of the command on one line of the batch.
+     */
+    public static class LineResult {
+        private final int lineNumber;
+        private final String commandText;
+        private final Status status;
+        private final String message;
+
+        /**
+         * Constructs a {@code LineResult} for the command {@code commandText} on line {@code lineNumber}, with the
+         * feedback or error {@code message} for the user, which is empty if the command was not executed.
+         */
+        public LineResult(int lineNumber, String commandText, Status status, String message) {
+            this.lineNumber = lineNumber;
+            this.commandText = requireNonNull(commandText);
+            this.status = requireNonNull(status);
+            this.message = requireNonNull(message);
+        }
+
+        public int getLineNumber() {
+            return lineNumber;
+        }
+
+        public String getCommandText() {
+            return commandText;
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        /**
+         * Returns a copy of this result with a different status.
+         */
+        LineResult withStatus(Status status) {
+            return new LineResult(lineNumber, commandText, status, message);
+        }
+
+        @Override
+        public String toString() {
+            String lineResult = String.format(MESSAGE_LINE_RESULT, lineNumber, status, commandText);
+            return message.isEmpty() ? lineResult : lineResult + ": " + message;
+        }
+    }
+
+    private final List<LineResult> lineResults;
+    private final boolean isSuccessful;
+    private final String summary;
+    private final int executedCount;
+    private final Duration elapsedTime;
+
+    /**
+     * Constructs a {@code BatchResult} from the result of each command in the batch, in order.
+     *
+     * @param summary       Overall outcome of the batch, or {@code null} if every command succeeded.
+     * @param executedCount Number of commands executed, including any that failed or were undone.
+     * @param elapsedTime   Time taken to parse and execute the commands.
+     */
+    BatchResult(List<LineResult> lineResults, String summary, int executedCount, Duration elapsedTime) {
+        requireNonNull(lineResults);
+        requireNonNull(elapsedTime);
+        this.lineResults = List.copyOf(lineResults);
+        this.isSuccessful = summary == null;
+        this.executedCount = executedCount;
+        this.elapsedTime = elapsedTime;
+        this.summary = summary != null ? summary
+                : String.format(MESSAGE_SUCCESS, executedCount, elapsedTime.toMillis(), getThroughput());
+    }
+
+    public List<LineResult> getLineResults() {
+        return lineResults;
+    }
+
+    /**
+     * Returns true if every command was executed successfully, and its changes kept.
+     */
+    public boolean isSuccessful() {
+        return isSuccessful;
+    }
+
+    public String getSummary() {
+        return summary;
+    }
+
+    public int getExecutedCount() {
+        return executedCount;
+    }
+
+    public Duration getElapsedTime() {
+        return elapsedTime;
+    }
+
+    /**
+     * Returns the number of commands executed per second.
+     */
+    public double getThroughput() {
+        double elapsedSeconds = Math.max(elapsedTime.toNanos(), 1) / 1e9;
+        return executedCount / elapsedSeconds;
+    }
+
+    /**
+     * Returns the result of every line followed by the summary, one per line.
+     */
+    public String getReport() {
+        return lineResults.stream()
+                .map(LineResult::toString)
+                .collect(Collectors.joining("\n", "", lineResults.isEmpty() ? summary : "\n" + summary));
+    }
+}
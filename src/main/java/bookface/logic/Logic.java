@@ -1,11 +1,14 @@
 package bookface.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import bookface.commons.core.GuiSettings;
 import bookface.logic.commands.CommandResult;
 import bookface.logic.commands.exceptions.CommandException;
 import bookface.logic.parser.exceptions.ParseException;
+import bookface.model.BookFaceStatistics;
 import bookface.model.Model;
 import bookface.model.ReadOnlyBookFace;
 import bookface.model.book.Book;
@@ -18,6 +21,7 @@ import javafx.collections.ObservableList;
 public interface Logic {
     /**
      * Executes the command and returns the result.
+     * Any changes are saved in the background, except for the exit command, which waits for them to be saved.
      * @param commandText The command as entered by the user.
      * @return the result of the command execution.
      * @throws CommandException If an error occurs during command execution.
@@ -25,6 +29,27 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes every line of {@code script} as a command, in order and as one unit, and saves the changes once at
+     * the end. Blank lines and lines starting with {@value LogicManager#BATCH_COMMENT_MARKER} are skipped. No command
+     * is executed if any line cannot be parsed, and the changes made by the batch are undone if any command fails.
+     * @param script The commands, one per line.
+     * @return the result of each command, and of the batch as a whole.
+     */
+    BatchResult executeBatch(String script);
+
+    /**
+     * Blocks until the changes made by the commands executed so far have been saved.
+     * @throws IOException if the data could not be saved.
+     */
+    void flush() throws IOException;
+
+    /**
+     * Sets the handler that receives the error message when saving changes fails. Changes are saved in the
+     * background, so the handler is not called on the thread that executed the command.
+     */
+    void setSaveFailureHandler(Consumer<String> handler);
+
     /**
      * Returns the BookFace.
      *
@@ -32,6 +57,27 @@ public interface Logic {
      */
     ReadOnlyBookFace getBookFace();
 
+    /**
+     * Returns the current modification version of BookFace.
+     *
+     * @see Model#getBookFaceVersion()
+     */
+    long getBookFaceVersion();
+
+    /**
+     * Returns the modification version of BookFace when it was last written to storage, or a negative number if it
+     * has not been written since the app started. Saves are written in the background, so BookFace has unsaved
+     * changes, or changes that are still being written, if this differs from {@link #getBookFaceVersion()}.
+     */
+    long getSavedBookFaceVersion();
+
+    /**
+     * Returns the current counts of books, users, loans and overdue loans.
+     *
+     * @see Model#getStatistics()
+     */
+    BookFaceStatistics getStatistics();
+
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
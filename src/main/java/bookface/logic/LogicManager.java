@@ -1,20 +1,33 @@
 package bookface.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import bookface.commons.core.GuiSettings;
 import bookface.commons.core.LogsCenter;
+import bookface.logic.BatchResult.LineResult;
+import bookface.logic.BatchResult.Status;
 import bookface.logic.commands.Command;
 import bookface.logic.commands.CommandResult;
 import bookface.logic.commands.exceptions.CommandException;
 import bookface.logic.parser.exceptions.ParseException;
 import bookface.logic.parser.primary.PrimaryParser;
+import bookface.model.BookFace;
+import bookface.model.BookFaceStatistics;
 import bookface.model.Model;
 import bookface.model.ReadOnlyBookFace;
 import bookface.model.book.Book;
 import bookface.model.person.Person;
+import bookface.storage.BackgroundBookFaceSaver;
 import bookface.storage.Storage;
 import javafx.collections.ObservableList;
 
@@ -23,18 +36,31 @@ import javafx.collections.ObservableList;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final long NO_SAVED_VERSION = -1;
+    public static final String BATCH_COMMENT_MARKER = "#";
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
+    private final BackgroundBookFaceSaver saver;
+
+    /** Held while commands modify BookFace, and while BookFace is read to be saved. */
+    private final Lock modelLock = new ReentrantLock();
     private final PrimaryParser primaryParser;
 
+    /** Modification version of BookFace in the latest save requested, so that unchanged data is not saved again. */
+    private volatile long queuedVersion = NO_SAVED_VERSION;
+
+    /** Modification version of BookFace in the latest save that was written. */
+    private volatile long savedVersion = NO_SAVED_VERSION;
+
+    private volatile Consumer<String> saveFailureHandler = message -> { };
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
         this.model = model;
-        this.storage = storage;
+        saver = new BackgroundBookFaceSaver(storage, modelLock, this::handleSaveFailure);
         primaryParser = new PrimaryParser();
     }
 
@@ -44,22 +70,183 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = primaryParser.parse(commandText);
-        commandResult = command.execute(model);
-
+        modelLock.lock();
         try {
-            storage.saveBookFace(model.getBookFace());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            try {
+                commandResult = command.execute(model);
+            } finally {
+                // a command that fails unexpectedly may already have changed BookFace, which is saved all the same
+                saveIfChanged();
+            }
+        } finally {
+            modelLock.unlock();
+        }
+
+        if (commandResult.isExit()) {
+            try {
+                flush();
+            } catch (IOException ioe) {
+                throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            }
         }
 
         return commandResult;
     }
 
+    @Override
+    public BatchResult executeBatch(String script) {
+        requireNonNull(script);
+        long startTime = System.nanoTime();
+        String[] lines = script.split("\\R");
+        logger.info("----------------[BATCH][" + lines.length + " lines]");
+
+        List<LineResult> lineResults = new ArrayList<>();
+        List<Command> commands = new ArrayList<>();
+        int parseFailureCount = 0;
+        for (int i = 0; i < lines.length; i++) {
+            String commandText = lines[i].trim();
+            if (commandText.isEmpty() || commandText.startsWith(BATCH_COMMENT_MARKER)) {
+                continue;
+            }
+            try {
+                commands.add(primaryParser.parse(commandText));
+                lineResults.add(new LineResult(i + 1, commandText, Status.NOT_EXECUTED, ""));
+            } catch (ParseException pe) {
+                parseFailureCount++;
+                lineResults.add(new LineResult(i + 1, commandText, Status.FAILED, pe.getMessage()));
+            }
+        }
+        if (parseFailureCount > 0) {
+            return new BatchResult(lineResults, String.format(BatchResult.MESSAGE_PARSE_FAILURE, parseFailureCount),
+                    0, Duration.ofNanos(System.nanoTime() - startTime));
+        }
+
+        modelLock.lock();
+        try {
+            return executeCommands(commands, lineResults, startTime);
+        } finally {
+            modelLock.unlock();
+        }
+    }
+
+    /**
+     * Executes the parsed {@code commands} of a batch in order, undoing all of them if any fails, and records the
+     * outcome of each in {@code lineResults}.
+     */
+    private BatchResult executeCommands(List<Command> commands, List<LineResult> lineResults, long startTime) {
+        boolean isSavedBeforeBatch = savedVersion == model.getBookFaceVersion();
+        BookFace snapshot = BookFace.deepCopyOf(model.getBookFace());
+        for (int i = 0; i < commands.size(); i++) {
+            LineResult lineResult = lineResults.get(i);
+            try {
+                CommandResult commandResult = commands.get(i).execute(model);
+                lineResults.set(i, new LineResult(lineResult.getLineNumber(), lineResult.getCommandText(),
+                        Status.EXECUTED, commandResult.getFeedbackToUser()));
+            } catch (RuntimeException e) {
+                // a bug in a command must not leave the batch half applied either
+                logger.warning("Batch line " + lineResult.getLineNumber() + " failed unexpectedly, undoing the batch: "
+                        + e);
+                restoreSnapshot(snapshot, isSavedBeforeBatch);
+                throw e;
+            } catch (CommandException ce) {
+                logger.info("Batch line " + lineResult.getLineNumber() + " failed, undoing the batch: "
+                        + ce.getMessage());
+                restoreSnapshot(snapshot, isSavedBeforeBatch);
+                for (int j = 0; j < i; j++) {
+                    lineResults.set(j, lineResults.get(j).withStatus(Status.ROLLED_BACK));
+                }
+                lineResults.set(i, new LineResult(lineResult.getLineNumber(), lineResult.getCommandText(),
+                        Status.FAILED, ce.getMessage()));
+                return new BatchResult(lineResults, String.format(BatchResult.MESSAGE_ROLLED_BACK,
+                        lineResult.getLineNumber()), i + 1, Duration.ofNanos(System.nanoTime() - startTime));
+            }
+        }
+
+        saveIfChanged();
+        BatchResult batchResult = new BatchResult(lineResults, null, commands.size(),
+                Duration.ofNanos(System.nanoTime() - startTime));
+        logger.info(batchResult.getSummary());
+        return batchResult;
+    }
+
+    /**
+     * Undoes the changes made by a batch, by restoring {@code snapshot} of the data from before the batch.
+     *
+     * @param isSavedBeforeBatch whether the data had been saved before the batch, and so is saved once restored.
+     */
+    private void restoreSnapshot(BookFace snapshot, boolean isSavedBeforeBatch) {
+        model.setBookFace(snapshot);
+        if (isSavedBeforeBatch) {
+            // the data is back to what was last saved
+            queuedVersion = model.getBookFaceVersion();
+            markSaved(queuedVersion);
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        modelLock.lock();
+        try {
+            saveIfChanged();
+        } finally {
+            modelLock.unlock();
+        }
+        // waits without holding the lock, which the saver needs to read the data
+        saver.flush();
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> handler) {
+        saveFailureHandler = requireNonNull(handler);
+    }
+
+    /**
+     * Saves BookFace in the background if it has changed since it was last saved.
+     */
+    private void saveIfChanged() {
+        long version = model.getBookFaceVersion();
+        if (version != queuedVersion) {
+            queuedVersion = version;
+            saver.save(model.getBookFace(), () -> markSaved(version));
+        }
+    }
+
+    /**
+     * Records that BookFace has been written as it was at modification version {@code version}. Versions only
+     * increase, so a save that completes late does not replace the record of a later one.
+     */
+    private synchronized void markSaved(long version) {
+        savedVersion = Math.max(savedVersion, version);
+    }
+
+    /**
+     * Reports a failed save, and makes sure that BookFace is saved again after the next command.
+     */
+    private void handleSaveFailure(IOException ioe) {
+        queuedVersion = NO_SAVED_VERSION;
+        saveFailureHandler.accept(FILE_OPS_ERROR_MESSAGE + ioe);
+    }
+
     @Override
     public ReadOnlyBookFace getBookFace() {
         return model.getBookFace();
     }
 
+    @Override
+    public long getBookFaceVersion() {
+        return model.getBookFaceVersion();
+    }
+
+    @Override
+    public long getSavedBookFaceVersion() {
+        return savedVersion;
+    }
+
+    @Override
+    public BookFaceStatistics getStatistics() {
+        return model.getStatistics();
+    }
+
     @Override
     public ObservableList<Person> getFilteredPersonList() {
         return model.getFilteredPersonList();
@@ -2,8 +2,9 @@ package bookface.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.text.Format;
-import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.Date;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
@@ -31,6 +32,8 @@ public class LoanCommand extends Command {
 
     public static final String ALREADY_LOANED = "Book is already loaned out.";
 
+    private static final DateTimeFormatter RETURN_DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
     private final Index targetUserIndex;
 
     private final Index targetBookIndex;
@@ -48,8 +51,7 @@ public class LoanCommand extends Command {
         this.targetUserIndex = userIndex;
         this.targetBookIndex = bookIndex;
         this.returnDate = returnDate;
-        Format formatter = new SimpleDateFormat("yyyy-MM-dd");
-        this.parsedDate = formatter.format(returnDate);
+        this.parsedDate = formatReturnDate(returnDate);
     }
 
     /**
@@ -62,8 +64,15 @@ public class LoanCommand extends Command {
         // @@author sprintaway-reused
         // Reused from https://stackoverflow.com/questions/12087419/adding-days-to-a-date-in-java
         this.returnDate = new Date(new Date().getTime() + TimeUnit.DAYS.toMillis(14));
-        Format formatter = new SimpleDateFormat("yyyy-MM-dd");
-        this.parsedDate = formatter.format(returnDate);
+        this.parsedDate = formatReturnDate(returnDate);
+    }
+
+    /**
+     * Formats {@code returnDate} as a date in the default time zone, as {@code SimpleDateFormat} used to.
+     */
+    private static String formatReturnDate(Date returnDate) {
+        // java.sql.Date, which the parsed dates may be, does not support toInstant()
+        return RETURN_DATE_FORMATTER.format(Instant.ofEpochMilli(returnDate.getTime()).atZone(ZoneId.systemDefault()));
     }
 
     @Override
@@ -0,0 +1,35 @@
+package bookface.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import bookface.model.BookFaceStatistics;
+import bookface.model.Model;
+
+/**
+ * Shows the number of books, users, loans and overdue loans in BookFace.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = Command.generateMessage(COMMAND_WORD, "Shows the number of books, "
+            + "users, loans and overdue loans", COMMAND_WORD);
+
+    public static final String MESSAGE_SUCCESS = "Books: %1$d (%2$d on loan, %3$d overdue)\n"
+            + "Users: %4$d (%5$d with loans, %6$.2f loans each on average)";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        BookFaceStatistics statistics = model.getStatistics();
+        return new CommandResult(String.format(MESSAGE_SUCCESS, statistics.getBookCount(),
+                statistics.getLoanCount(), statistics.getOverdueCount(), statistics.getPersonCount(),
+                statistics.getLoaneeCount(), statistics.getLoansPerLoanee()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof StatsCommand); // all instances of StatsCommand are equal
+    }
+}
@@ -2,6 +2,8 @@ package bookface.logic.commands.find;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Set;
+
 import bookface.commons.core.Messages;
 import bookface.logic.commands.CommandResult;
 import bookface.logic.commands.exceptions.CommandException;
@@ -27,7 +29,8 @@ public class FindBookCommand extends FindCommand {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        model.updateFilteredBookList(predicate);
+        Set<Book> candidates = model.getCandidateBooks(predicate.getKeywords());
+        model.updateFilteredBookList(book -> candidates.contains(book) && predicate.test(book));
         return new CommandResult(
                 String.format(Messages.MESSAGE_BOOKS_LISTED_OVERVIEW, model.getFilteredBookList().size()));
     }
@@ -2,11 +2,14 @@ package bookface.logic.commands.find;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Set;
+
 import bookface.commons.core.Messages;
 import bookface.logic.commands.CommandResult;
 import bookface.logic.commands.exceptions.CommandException;
 import bookface.model.Model;
 import bookface.model.ObjectContainsKeywordsPredicate;
+import bookface.model.person.Name;
 import bookface.model.person.Person;
 
 /**
@@ -28,7 +31,8 @@ public class FindUserCommand extends FindCommand {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        Set<Name> candidates = model.getCandidatePersonNames(predicate.getKeywords());
+        model.updateFilteredPersonList(person -> candidates.contains(person.getName()) && predicate.test(person));
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
@@ -2,11 +2,16 @@ package bookface.logic.commands.list;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Date;
+
 import bookface.logic.commands.CommandResult;
 import bookface.model.Model;
 
 /**
- * List all users with overdue loans, and books that are overdue
+ * List all users with overdue loans, and books that are overdue.
+ * Loans are overdue if they were due before the command was executed. Each book or user is checked again whenever
+ * its loans change, so a book that is returned leaves the list, while a loan that becomes overdue afterwards is only
+ * listed once the command is executed again.
  */
 public class ListOverdueCommand extends ListCommand {
     public static final String COMMAND_WORD = "overdue";
@@ -16,8 +21,10 @@ public class ListOverdueCommand extends ListCommand {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredBookList(Model.PREDICATE_ALL_OVERDUE_BOOKS);
-        model.updateFilteredPersonList(Model.PREDICATE_OWE_OVERDUE_BOOKS);
+        Date now = new Date();
+        model.updateFilteredBookList(book -> book.isDueBefore(now));
+        model.updateFilteredPersonList(person -> person.getLoanedBooksSet().stream()
+                .anyMatch(book -> book.isDueBefore(now)));
         return new CommandResult(MESSAGE_SUCCESS);
     }
 
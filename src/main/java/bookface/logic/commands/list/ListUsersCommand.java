@@ -2,11 +2,18 @@ package bookface.logic.commands.list;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 import bookface.logic.commands.CommandResult;
 import bookface.model.Model;
+import bookface.model.person.Name;
+import bookface.model.tag.Tag;
 
 /**
- * Lists all users in the user list to the user.
+ * Lists all users in the user list to the user, optionally only those carrying any of the given tags.
  */
 public class ListUsersCommand extends ListCommand {
 
@@ -16,16 +23,42 @@ public class ListUsersCommand extends ListCommand {
 
     public static final String MESSAGE_SUCCESS = "Listed all users";
 
+    public static final String MESSAGE_SUCCESS_TAGGED = "Listed all users tagged with any of: %1$s";
+
+    private final Set<Tag> tags;
+
+    /**
+     * Creates a ListUsersCommand to list all users.
+     */
+    public ListUsersCommand() {
+        this(Collections.emptySet());
+    }
+
+    /**
+     * Creates a ListUsersCommand to list the users carrying any of {@code tags}, or all users if {@code tags} is empty.
+     */
+    public ListUsersCommand(Set<Tag> tags) {
+        requireNonNull(tags);
+        this.tags = new HashSet<>(tags);
+    }
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
-        return new CommandResult(MESSAGE_SUCCESS);
+        if (tags.isEmpty()) {
+            model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+            return new CommandResult(MESSAGE_SUCCESS);
+        }
+        Set<Name> taggedNames = model.getPersonNamesWithAnyTag(tags);
+        model.updateFilteredPersonList(person -> taggedNames.contains(person.getName()));
+        String tagNames = tags.stream().map(Tag::toString).sorted().collect(Collectors.joining(" "));
+        return new CommandResult(String.format(MESSAGE_SUCCESS_TAGGED, tagNames));
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
-                || (other instanceof ListUsersCommand); // all instances of listuserscommand are equal
+                || (other instanceof ListUsersCommand // instanceof handles nulls
+                && tags.equals(((ListUsersCommand) other).tags)); // state check
     }
 }
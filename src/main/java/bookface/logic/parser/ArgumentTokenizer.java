@@ -1,13 +1,10 @@
 package bookface.logic.parser;
 
 import static bookface.commons.core.Messages.MULTIPLE_PREFIXES_ENTERED;
-import static bookface.commons.util.LambdaUtil.getExceptionThrowingFunction;
 import static bookface.logic.parser.CliSyntax.PREFIXES_MULTIPLE_ALLOWED;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.HashMap;
+import java.util.Map;
 
 import bookface.logic.parser.exceptions.ParseException;
 
@@ -18,8 +15,14 @@ import bookface.logic.parser.exceptions.ParseException;
  * 2. Leading and trailing whitespaces of an argument value will be discarded.<br>
  * 3. An argument may be repeated and all its values will be accumulated e.g. the value of {@code t/}
  *    in the above example.<br>
+ * The arguments string is scanned once, and all the given prefixes are recognised together with a trie, so the cost
+ * of tokenizing grows linearly with the length of the arguments string.
  */
 public class ArgumentTokenizer {
+
+    /** Marks the preamble, which is the text before the first prefix. */
+    private static final Prefix PREAMBLE = new Prefix("");
+
     /**
      * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps prefixes to their
      * respective argument values. Only the given prefixes will be recognized in the arguments string.
@@ -27,131 +30,96 @@ public class ArgumentTokenizer {
      * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
      * @param prefixes   Prefixes to tokenize the arguments string with
      * @return           ArgumentMultimap object that maps prefixes to their arguments
+     * @throws ParseException if a prefix that may only be given once is given more than once
      */
     public static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) throws ParseException {
-        List<PrefixPosition> positions = findAllPrefixPositions(argsString, prefixes);
-        return extractArguments(argsString, positions);
-    }
-
-    /**
-     * Finds all zero-based prefix positions in the given arguments string.
-     *
-     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixes   Prefixes to find in the arguments string
-     * @return           List of zero-based prefix positions in the given arguments string
-     */
-    private static List<PrefixPosition>
-            findAllPrefixPositions(String argsString, Prefix... prefixes) throws ParseException {
-        return Arrays.stream(prefixes)
-                .flatMap(getExceptionThrowingFunction(prefix -> findPrefixPositions(argsString, prefix).stream()))
-                .collect(Collectors.toList());
-    }
+        PrefixTrie trie = PrefixTrie.of(prefixes);
+        int[] occurrenceCounts = new int[prefixes.length];
+        ArgumentMultimap argMultimap = new ArgumentMultimap();
 
-    /**
-     * {@see findAllPrefixPositions}
-     */
-    private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) throws ParseException {
-        List<PrefixPosition> positions = new ArrayList<>();
-        boolean isMultipleAllowed = PREFIXES_MULTIPLE_ALLOWED.get(0) == prefix;
-
-        int prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), 0);
-        while (prefixPosition != -1) {
-            PrefixPosition extendedPrefix = new PrefixPosition(prefix, prefixPosition);
-            positions.add(extendedPrefix);
-            prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), prefixPosition);
-            if (!isMultipleAllowed && prefixPosition != -1) {
-                throw new ParseException(String.format(MULTIPLE_PREFIXES_ENTERED, prefix.getPrefix()));
+        Prefix currentPrefix = PREAMBLE;
+        int valueStartPos = 0;
+        // a prefix is only recognised if there is a whitespace before it
+        for (int i = 1; i < argsString.length(); i++) {
+            if (argsString.charAt(i - 1) != ' ') {
+                continue;
+            }
+            int prefixIndex = trie.findLongestMatch(argsString, i);
+            if (prefixIndex == PrefixTrie.NO_PREFIX) {
+                continue;
             }
-        }
-
-        return positions;
-    }
-
-    /**
-     * Returns the index of the first occurrence of {@code prefix} in
-     * {@code argsString} starting from index {@code fromIndex}. An occurrence
-     * is valid if there is a whitespace before {@code prefix}. Returns -1 if no
-     * such occurrence can be found.
-     *
-     * E.g if {@code argsString} = "e/hip/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns -1 as there are no valid
-     * occurrences of "p/" with whitespace before it. However, if
-     * {@code argsString} = "e/hi p/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns 5.
-     */
-    private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
-        int prefixIndex = argsString.indexOf(" " + prefix, fromIndex);
-        return prefixIndex == -1 ? -1
-                : prefixIndex + 1; // +1 as offset for whitespace
-    }
-
-    /**
-     * Extracts prefixes and their argument values, and returns an {@code ArgumentMultimap} object that maps the
-     * extracted prefixes to their respective arguments. Prefixes are extracted based on their zero-based positions in
-     * {@code argsString}.
-     *
-     * @param argsString      Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixPositions Zero-based positions of all prefixes in {@code argsString}
-     * @return                ArgumentMultimap object that maps prefixes to their arguments
-     */
-    private static ArgumentMultimap extractArguments(String argsString, List<PrefixPosition> prefixPositions) {
-
-        // Sort by start position
-        prefixPositions.sort((prefix1, prefix2) -> prefix1.getStartPosition() - prefix2.getStartPosition());
-
-        // Insert a PrefixPosition to represent the preamble
-        PrefixPosition preambleMarker = new PrefixPosition(new Prefix(""), 0);
-        prefixPositions.add(0, preambleMarker);
 
-        // Add a dummy PrefixPosition to represent the end of the string
-        PrefixPosition endPositionMarker = new PrefixPosition(new Prefix(""), argsString.length());
-        prefixPositions.add(endPositionMarker);
+            argMultimap.put(currentPrefix, argsString.substring(valueStartPos, i).trim());
+            currentPrefix = prefixes[prefixIndex];
+            occurrenceCounts[prefixIndex]++;
+            valueStartPos = i + currentPrefix.getPrefix().length();
+            // the value starts after the prefix, so there is no need to look for a prefix within this one
+            i = valueStartPos - 1;
+        }
+        argMultimap.put(currentPrefix, argsString.substring(valueStartPos).trim());
 
-        // Map prefixes to their argument values (if any)
-        ArgumentMultimap argMultimap = new ArgumentMultimap();
-        for (int i = 0; i < prefixPositions.size() - 1; i++) {
-            // Extract and store prefixes and their arguments
-            Prefix argPrefix = prefixPositions.get(i).getPrefix();
-            String argValue = extractArgumentValue(argsString, prefixPositions.get(i), prefixPositions.get(i + 1));
-            argMultimap.put(argPrefix, argValue);
+        for (int i = 0; i < prefixes.length; i++) {
+            boolean isMultipleAllowed = PREFIXES_MULTIPLE_ALLOWED.get(0) == prefixes[i];
+            if (!isMultipleAllowed && occurrenceCounts[i] > 1) {
+                throw new ParseException(String.format(MULTIPLE_PREFIXES_ENTERED, prefixes[i].getPrefix()));
+            }
         }
 
         return argMultimap;
     }
 
     /**
-     * Returns the trimmed value of the argument in the arguments string specified by {@code currentPrefixPosition}.
-     * The end position of the value is determined by {@code nextPrefixPosition}.
-     */
-    private static String extractArgumentValue(String argsString,
-                                        PrefixPosition currentPrefixPosition,
-                                        PrefixPosition nextPrefixPosition) {
-        Prefix prefix = currentPrefixPosition.getPrefix();
-
-        int valueStartPos = currentPrefixPosition.getStartPosition() + prefix.getPrefix().length();
-        String value = argsString.substring(valueStartPos, nextPrefixPosition.getStartPosition());
-
-        return value.trim();
-    }
-
-    /**
-     * Represents a prefix's position in an arguments string.
+     * A trie of the prefixes to recognise, in which each prefix is found by following the nodes for its characters
+     * from the root.
      */
-    private static class PrefixPosition {
-        private final int startPosition;
-        private final Prefix prefix;
-
-        PrefixPosition(Prefix prefix, int startPosition) {
-            this.prefix = prefix;
-            this.startPosition = startPosition;
-        }
-
-        int getStartPosition() {
-            return startPosition;
+    private static class PrefixTrie {
+        static final int NO_PREFIX = -1;
+
+        private final Map<Character, PrefixTrie> children = new HashMap<>();
+
+        /** Index of the prefix that ends at this node among the prefixes the trie was built from, if any. */
+        private int prefixIndex = NO_PREFIX;
+
+        /**
+         * Returns a trie of {@code prefixes}. Empty prefixes are left out, as the preamble already starts at every
+         * arguments string, and a prefix given more than once is recognised as its first occurrence in
+         * {@code prefixes}.
+         */
+        static PrefixTrie of(Prefix... prefixes) {
+            PrefixTrie root = new PrefixTrie();
+            for (int i = 0; i < prefixes.length; i++) {
+                String prefix = prefixes[i].getPrefix();
+                if (prefix.isEmpty()) {
+                    continue;
+                }
+                PrefixTrie node = root;
+                for (int j = 0; j < prefix.length(); j++) {
+                    node = node.children.computeIfAbsent(prefix.charAt(j), unused -> new PrefixTrie());
+                }
+                if (node.prefixIndex == NO_PREFIX) {
+                    node.prefixIndex = i;
+                }
+            }
+            return root;
         }
 
-        Prefix getPrefix() {
-            return prefix;
+        /**
+         * Returns the index of the longest prefix in this trie that {@code argsString} has at {@code startPos}, or
+         * {@code NO_PREFIX} if there is none.
+         */
+        int findLongestMatch(String argsString, int startPos) {
+            int longestMatch = NO_PREFIX;
+            PrefixTrie node = this;
+            for (int i = startPos; i < argsString.length(); i++) {
+                node = node.children.get(argsString.charAt(i));
+                if (node == null) {
+                    break;
+                }
+                if (node.prefixIndex != NO_PREFIX) {
+                    longestMatch = node.prefixIndex;
+                }
+            }
+            return longestMatch;
         }
     }
 
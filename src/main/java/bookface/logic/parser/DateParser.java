@@ -0,0 +1,177 @@
+package bookface.logic.parser;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+import org.ocpsoft.prettytime.nlp.PrettyTimeParser;
+
+import bookface.commons.core.LogsCenter;
+import bookface.commons.core.Messages;
+import bookface.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses the dates entered by the user, such as the return date of a loan. Dates in the {@code dd/MM/yyyy} and
+ * {@code yyyy-MM-dd} formats are parsed directly, and any other date is parsed as natural language, such as
+ * "next friday", by a {@code PrettyTimeParser}.
+ *
+ * A {@code PrettyTimeParser} takes long to create, so one is shared by every date parsed, and it can be created
+ * before the first date is entered with {@link #warmUpInBackground()}. As it is not thread-safe, it parses one date
+ * at a time, and the natural language dates parsed recently are cached. This class is thread-safe.
+ */
+public class DateParser {
+
+    /** Number of natural language dates that are cached. */
+    static final int CACHE_SIZE = 64;
+
+    /**
+     * How long a cached natural language date is reused for. It is reused at the same offset from the current time,
+     * which drifts from the right time for a phrase with a fixed time such as "tomorrow 9am", so it is only reused
+     * shortly after it is parsed. It is also only reused on the day it is parsed, as a phrase such as
+     * "next friday" resolves to a different offset on another day.
+     */
+    static final Duration CACHE_ENTRY_LIFETIME = Duration.ofMinutes(1);
+
+    private static final Logger logger = LogsCenter.getLogger(DateParser.class);
+
+    // The dd/MM/yyyy and yyyy-MM-dd formats "override" PrettyTimeParser, as it is unable to parse dates such as
+    // 26/10/2022 and handle invalid dates properly.
+    // Solution below adapted from https://stackoverflow.com/questions/62054264/check-invalid-date-by-localdate
+    private static final Pattern DAY_MONTH_YEAR_PATTERN =
+            Pattern.compile("^([0-9][0-9])/([0-9][0-9])/([0-9][0-9])?[0-9][0-9]$");
+    private static final Pattern YEAR_MONTH_DAY_PATTERN =
+            Pattern.compile("^([0-9][0-9])?[0-9][0-9]-([0-9][0-9])-([0-9][0-9])$");
+    private static final DateTimeFormatter DAY_MONTH_YEAR_FORMATTER =
+            DateTimeFormatter.ofPattern("dd/MM/yyyy").withResolverStyle(ResolverStyle.SMART);
+    private static final DateTimeFormatter YEAR_MONTH_DAY_FORMATTER =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd").withResolverStyle(ResolverStyle.SMART);
+
+    private static final String WARM_UP_THREAD_NAME = "BookFace date parser warm-up";
+    private static final String WARM_UP_DATE = "next friday";
+
+    private static final DateParser SHARED_INSTANCE = new DateParser(Clock.systemDefaultZone());
+
+    private final Clock clock;
+
+    /** The natural language dates parsed recently, with the least recently used first. */
+    private final Map<String, CachedDate> cache = new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedDate> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    /** Created when it is first needed, while holding the lock on this {@code DateParser}. */
+    private PrettyTimeParser naturalLanguageParser;
+
+    /**
+     * Creates a {@code DateParser} that uses {@code clock} to tell when a cached natural language date is outdated.
+     */
+    DateParser(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the {@code DateParser} shared by the whole app.
+     */
+    public static DateParser getInstance() {
+        return SHARED_INSTANCE;
+    }
+
+    /**
+     * Parses {@code date} into a {@code Date}, or returns {@code Optional.empty()} if it cannot be parsed as
+     * natural language.
+     *
+     * @throws ParseException if {@code date} is in the {@code dd/MM/yyyy} or {@code yyyy-MM-dd} format, but its day
+     *     or month is invalid.
+     */
+    public Optional<Date> parse(String date) throws ParseException {
+        if (DAY_MONTH_YEAR_PATTERN.matcher(date).matches()) {
+            return Optional.of(parseFormattedDate(date, DAY_MONTH_YEAR_FORMATTER));
+        }
+        if (YEAR_MONTH_DAY_PATTERN.matcher(date).matches()) {
+            return Optional.of(parseFormattedDate(date, YEAR_MONTH_DAY_FORMATTER));
+        }
+        return parseNaturalLanguage(date);
+    }
+
+    /**
+     * Creates the {@code PrettyTimeParser} on a background thread, so that the first natural language date entered
+     * does not have to wait for it.
+     */
+    public void warmUpInBackground() {
+        Thread thread = new Thread(this::warmUp, WARM_UP_THREAD_NAME);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private synchronized void warmUp() {
+        long startTime = System.nanoTime();
+        // the first date parsed also loads the classes and grammar used to parse
+        getNaturalLanguageParser().parse(WARM_UP_DATE);
+        logger.fine("Natural language date parser ready in "
+                + Duration.ofNanos(System.nanoTime() - startTime).toMillis() + " ms");
+    }
+
+    private static Date parseFormattedDate(String date, DateTimeFormatter formatter) throws ParseException {
+        try {
+            return java.sql.Date.valueOf(LocalDate.parse(date, formatter));
+        } catch (DateTimeParseException e) {
+            throw new ParseException(Messages.MESSAGE_INVALID_DATE_FORMAT);
+        }
+    }
+
+    private synchronized Optional<Date> parseNaturalLanguage(String date) {
+        long now = clock.millis();
+        LocalDate today = LocalDate.now(clock);
+        CachedDate cachedDate = cache.get(date);
+        if (cachedDate != null && cachedDate.isReusable(now, today)) {
+            return Optional.of(new Date(now + cachedDate.offsetMillis));
+        }
+
+        List<Date> parsedDates = getNaturalLanguageParser().parse(date);
+        if (parsedDates.isEmpty()) {
+            return Optional.empty();
+        }
+        Date parsedDate = parsedDates.get(0);
+        cache.put(date, new CachedDate(now, today, parsedDate.getTime() - now));
+        return Optional.of(parsedDate);
+    }
+
+    private synchronized PrettyTimeParser getNaturalLanguageParser() {
+        if (naturalLanguageParser == null) {
+            naturalLanguageParser = new PrettyTimeParser();
+        }
+        return naturalLanguageParser;
+    }
+
+    /**
+     * A natural language date, kept as its offset from the time it was parsed, as natural language dates are
+     * relative to the time they are entered.
+     */
+    private static class CachedDate {
+        private final long parsedAtMillis;
+        private final LocalDate parsedOn;
+        private final long offsetMillis;
+
+        CachedDate(long parsedAtMillis, LocalDate parsedOn, long offsetMillis) {
+            this.parsedAtMillis = parsedAtMillis;
+            this.parsedOn = parsedOn;
+            this.offsetMillis = offsetMillis;
+        }
+
+        boolean isReusable(long nowMillis, LocalDate today) {
+            return parsedOn.equals(today) && nowMillis - parsedAtMillis < CACHE_ENTRY_LIFETIME.toMillis();
+        }
+    }
+}
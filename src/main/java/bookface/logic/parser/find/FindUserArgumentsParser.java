@@ -27,9 +27,11 @@ public class FindUserArgumentsParser implements Parseable<FindUserCommand> {
                     String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, FindUserCommand.MESSAGE_USAGE));
         }
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
+        String[] keywords = trimmedArgs.split("\\s+");
 
-        return new FindUserCommand(new ObjectContainsKeywordsPredicate<>(Arrays.asList(nameKeywords),
-                person -> keyword -> StringUtil.containsPartialWordIgnoreCase(person.getName().fullName, keyword)));
+        return new FindUserCommand(new ObjectContainsKeywordsPredicate<>(Arrays.asList(keywords),
+                person -> keyword -> StringUtil.containsPartialWordIgnoreCase(person.getName().fullName, keyword)
+                        || StringUtil.containsPartialWordIgnoreCase(person.getPhone().value, keyword)
+                        || StringUtil.containsPartialWordIgnoreCase(person.getEmail().value, keyword)));
     }
 }
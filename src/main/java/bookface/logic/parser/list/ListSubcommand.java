@@ -5,7 +5,6 @@ import bookface.logic.commands.list.ListBooksCommand;
 import bookface.logic.commands.list.ListCommand;
 import bookface.logic.commands.list.ListLoansCommand;
 import bookface.logic.commands.list.ListOverdueCommand;
-import bookface.logic.commands.list.ListUsersCommand;
 import bookface.logic.parser.CommandReturnable;
 import bookface.logic.parser.ParserFunction;
 import bookface.logic.parser.exceptions.ParseException;
@@ -14,7 +13,7 @@ import bookface.logic.parser.exceptions.ParseException;
  * An enum class that contains all the valid List commands.
  */
 public enum ListSubcommand implements CommandReturnable {
-    USERS((args) -> new ListUsersCommand()),
+    USERS((args) -> new ListUsersArgumentsParser().parse(args)),
     BOOKS((args) -> new ListBooksCommand()),
     LOANS((args) -> new ListLoansCommand()),
     ALL((args) -> new ListAllCommand()),
@@ -0,0 +1,33 @@
+package bookface.logic.parser.list;
+
+import static bookface.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.List;
+import java.util.Set;
+
+import bookface.logic.commands.list.ListUsersCommand;
+import bookface.logic.parser.ArgumentMultimap;
+import bookface.logic.parser.ArgumentTokenizer;
+import bookface.logic.parser.Parseable;
+import bookface.logic.parser.ParserUtil;
+import bookface.logic.parser.exceptions.ParseException;
+import bookface.model.tag.Tag;
+
+/**
+ * Parses input arguments and creates a new ListUsersCommand object, filtering by any tags given.
+ */
+public class ListUsersArgumentsParser implements Parseable<ListUsersCommand> {
+    /**
+     * Parses the given {@code String} of arguments in the context of the ListUsersCommand
+     * and returns a ListUsersCommand object for execution. Arguments other than tags are ignored.
+     *
+     * @throws ParseException if any of the given tags is invalid
+     */
+    @Override
+    public ListUsersCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TAG);
+        List<String> tagNames = argMultimap.getAllValues(PREFIX_TAG);
+        Set<Tag> tags = ParserUtil.parseTags(tagNames);
+        return new ListUsersCommand(tags);
+    }
+}
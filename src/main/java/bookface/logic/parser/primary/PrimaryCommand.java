@@ -3,6 +3,7 @@ package bookface.logic.parser.primary;
 import bookface.logic.commands.Command;
 import bookface.logic.commands.ExitCommand;
 import bookface.logic.commands.HelpCommand;
+import bookface.logic.commands.StatsCommand;
 import bookface.logic.parser.ClearCommandParser;
 import bookface.logic.parser.CommandReturnable;
 import bookface.logic.parser.LoanCommandParser;
@@ -28,7 +29,8 @@ public enum PrimaryCommand implements CommandReturnable {
     EXIT((args) -> new ExitCommand()),
     HELP((args) -> new HelpCommand()),
     LOAN((args) -> new LoanCommandParser().parse(args)),
-    RETURN((args) -> new ReturnCommandParser().parse(args));
+    RETURN((args) -> new ReturnCommandParser().parse(args)),
+    STATS((args) -> new StatsCommand());
 
     private final ParserFunction<? super String, ? extends Command> commandFunction;
 
@@ -2,16 +2,24 @@ package bookface.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
 import bookface.commons.util.CollectionUtil;
 import bookface.model.book.Book;
 import bookface.model.book.BookList;
+import bookface.model.book.exceptions.BookNotFoundException;
+import bookface.model.book.exceptions.DuplicateBookException;
+import bookface.model.person.Name;
 import bookface.model.person.Person;
 import bookface.model.person.UniquePersonList;
+import bookface.model.tag.Tag;
 import javafx.collections.ObservableList;
 
 /**
@@ -20,9 +28,24 @@ import javafx.collections.ObservableList;
  */
 public class BookFace implements ReadOnlyBookFace {
 
+    public static final String MESSAGE_INCONSISTENT_LOAN = "Book %1$s loaned to %2$s is not in the book list, has no "
+            + "return date or is loaned to someone else";
+
     private final UniquePersonList persons;
     private final BookList books;
 
+    /** Reverse index from every loaned book to the person it is loaned to. */
+    private final Map<Book, Person> loanIndex = new HashMap<>();
+
+    /** Every loaned book ordered by its return date. */
+    private final LoanLedger loanLedger = new LoanLedger();
+
+    /** Number of books on loan to each person with at least one loan, by name. */
+    private final Map<Name, Integer> loanCounts = new HashMap<>();
+
+    /** Number of changes made to this BookFace, which every mutating method must increase. */
+    private long version;
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -45,14 +68,49 @@ public class BookFace implements ReadOnlyBookFace {
         resetData(toBeCopied);
     }
 
+    /**
+     * Returns a copy of {@code original} that shares no persons or books with it, so that loans and returns made in
+     * either one do not affect the other.
+     *
+     * @throws IllegalStateException if a book loaned to a person in {@code original} is not in its book list, has
+     *     no return date, or is also loaned to another person.
+     */
+    public static BookFace deepCopyOf(ReadOnlyBookFace original) {
+        requireNonNull(original);
+        BookFace copy = new BookFace();
+        Map<Book, Book> copiedBooks = new HashMap<>();
+        for (Book book : original.getBookList()) {
+            Book copiedBook = new Book(book.getTitle(), book.getAuthor());
+            copy.addBook(copiedBook);
+            copiedBooks.put(book, copiedBook);
+        }
+        for (Person person : original.getPersonList()) {
+            Person copiedPerson = new Person(person.getName(), person.getPhone(), person.getEmail(), Set.of(),
+                    person.getTags());
+            copy.addPerson(copiedPerson);
+            for (Book loanedBook : person.getLoanedBooksSet()) {
+                Book copiedBook = copiedBooks.get(loanedBook);
+                Optional<Date> returnDate = loanedBook.getReturnDate();
+                if (copiedBook == null || returnDate.isEmpty() || copiedBook.isLoaned()) {
+                    throw new IllegalStateException(String.format(MESSAGE_INCONSISTENT_LOAN, loanedBook,
+                            person.getName()));
+                }
+                copy.loan(copiedPerson, copiedBook, returnDate.get());
+            }
+        }
+        return copy;
+    }
+
     //// list overwrite operations
 
     /**
      * Replaces the contents of the person list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     * The loans of the books are indexed only by {@link #setBooks(List)}, which must be called right after this.
      */
-    public void setPersons(List<Person> persons) {
+    private void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        version++;
     }
 
     /**
@@ -61,6 +119,8 @@ public class BookFace implements ReadOnlyBookFace {
      */
     public void setBooks(List<Book> books) {
         this.books.setBooks(books);
+        rebuildLoanIndex();
+        version++;
     }
 
     /**
@@ -102,6 +162,7 @@ public class BookFace implements ReadOnlyBookFace {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        version++;
     }
 
     /**
@@ -111,6 +172,8 @@ public class BookFace implements ReadOnlyBookFace {
      */
     public void addBook(Book book) {
         books.add(book);
+        book.getLoanee().ifPresent(loanee -> recordLoan(book, loanee));
+        version++;
     }
 
     /**
@@ -120,6 +183,8 @@ public class BookFace implements ReadOnlyBookFace {
      */
     public void deleteBook(Book book) {
         books.delete(book);
+        forgetLoan(book);
+        version++;
     }
 
     /**
@@ -130,9 +195,11 @@ public class BookFace implements ReadOnlyBookFace {
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
 
-        updateLoanAssociationForEditedPerson(target, editedPerson);
+        // replaced first, as it throws if the edit is invalid, before any loan is moved to editedPerson
         persons.setPerson(target, editedPerson);
+        updateLoanAssociationForEditedPerson(target, editedPerson);
         books.refreshBookListAfterEditingPerson(editedPerson);
+        version++;
     }
 
     /**
@@ -143,9 +210,20 @@ public class BookFace implements ReadOnlyBookFace {
     public void setBook(Book target, Book editedBook) {
         requireNonNull(editedBook);
 
+        // checked first, so that an invalid edit does not move the loan, but the loan is moved to editedBook before it
+        // enters the list, so that observers of the list see it already on loan
+        if (!books.contains(target)) {
+            throw new BookNotFoundException();
+        }
+        if (!target.equals(editedBook) && books.contains(editedBook)) {
+            throw new DuplicateBookException();
+        }
         updateLoanAssociationForEditedBook(target, editedBook);
         books.setBook(target, editedBook);
+        forgetLoan(target);
+        editedBook.getLoanee().ifPresent(loanee -> recordLoan(editedBook, loanee));
         persons.refreshUserListAfterOperationOnBook(editedBook);
+        version++;
     }
 
     /**
@@ -157,27 +235,104 @@ public class BookFace implements ReadOnlyBookFace {
         assert !book.isLoaned();
         books.loan(person, book, returnDate);
         persons.loan(person, book);
+        recordLoan(book, person);
+        version++;
     }
 
     /**
-     * Loans to the person {@code person} in the user list with the book {@code book} in the book list.
-     * {@code person} and {@code book} must exist in BookFace.
+     * Returns the loan of the book {@code book} in the book list.
+     * {@code book} must exist in BookFace.
      */
     public void returnLoanedBook(Book book) {
         CollectionUtil.requireAllNonNull(book);
         if (!book.isLoaned()) {
             return;
         }
+        Optional<Person> loanee = Optional.ofNullable(loanIndex.get(book)).or(book::getLoanee);
+        forgetLoan(book);
         books.returnLoanedBook(book);
-        persons.returnLoanedBook(book);
+        loanee.ifPresent(p -> persons.returnLoanedBook(p, book));
+        version++;
+    }
+
+    /**
+     * Returns the number of changes made to this BookFace so far. The version only ever increases, so two calls
+     * return the same value exactly when BookFace was not changed in between.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the person that {@code book} is loaned to, or an empty {@code Optional} if it is not on loan.
+     */
+    public Optional<Person> getLoanee(Book book) {
+        requireNonNull(book);
+        return Optional.ofNullable(loanIndex.get(book));
+    }
+
+    /**
+     * Returns the books whose title or author may contain any of {@code keywords} as part of a word, ignoring case.
+     * The result can include books that do not, and should be checked against the keywords by the caller.
+     */
+    public Set<Book> getCandidateBooks(List<String> keywords) {
+        requireNonNull(keywords);
+        Set<Book> candidates = new HashSet<>();
+        for (String keyword : keywords) {
+            candidates.addAll(books.getCandidatesForKeyword(keyword));
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the names of the persons whose name, phone or email may contain any of {@code keywords} as part of a
+     * word, ignoring case. The result can include persons that do not, and should be checked against the keywords by
+     * the caller.
+     */
+    public Set<Name> getCandidatePersonNames(List<String> keywords) {
+        requireNonNull(keywords);
+        Set<Name> candidates = new HashSet<>();
+        for (String keyword : keywords) {
+            candidates.addAll(persons.getCandidatesForKeyword(keyword));
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the names of the persons carrying any of {@code tags}.
+     */
+    public Set<Name> getPersonNamesWithAnyTag(Collection<Tag> tags) {
+        requireNonNull(tags);
+        Set<Name> names = new HashSet<>();
+        for (Tag tag : tags) {
+            names.addAll(persons.getNamesWithTag(tag));
+        }
+        return names;
+    }
+
+    /**
+     * Returns the current counts of books, users and loans, counting as overdue the books due strictly before
+     * {@code date}. The counts are maintained as BookFace changes, so this does not scan the lists.
+     */
+    public BookFaceStatistics getStatistics(Date date) {
+        requireNonNull(date);
+        return new BookFaceStatistics(books.asUnmodifiableObservableList().size(),
+                persons.asUnmodifiableObservableList().size(), loanIndex.size(),
+                loanLedger.countBooksDueBefore(date), loanCounts.size());
     }
 
     /**
      * Removes {@code key} from this {@code BookFace}.
      * {@code key} must exist in BookFace.
+     * Any books still on loan to {@code key} are marked as returned.
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        for (Book book : key.getLoanedBooksSet()) {
+            forgetLoan(book);
+        }
+        books.refreshBookListAfterDeletingPerson(key);
+        version++;
     }
 
     /**
@@ -205,6 +360,42 @@ public class BookFace implements ReadOnlyBookFace {
         for (Book book : updatedLoanedBook) {
             book.loanTo(newPerson, book.getReturnDate()
                     .orElseGet(bookface.commons.util.Date::getFourteenDaysLaterDate));
+            recordLoan(book, newPerson);
+        }
+    }
+
+    /**
+     * Records in {@code loanIndex} and {@code loanLedger} that {@code book} is on loan to {@code loanee}.
+     */
+    private void recordLoan(Book book, Person loanee) {
+        Person previousLoanee = loanIndex.put(book, loanee);
+        if (previousLoanee != null) {
+            loanCounts.computeIfPresent(previousLoanee.getName(), (name, count) -> count == 1 ? null : count - 1);
+        }
+        loanCounts.merge(loanee.getName(), 1, Integer::sum);
+        book.getReturnDate().ifPresent(returnDate -> loanLedger.add(book, returnDate));
+    }
+
+    /**
+     * Removes {@code book} from {@code loanIndex} and {@code loanLedger}.
+     */
+    private void forgetLoan(Book book) {
+        Person loanee = loanIndex.remove(book);
+        if (loanee != null) {
+            loanCounts.computeIfPresent(loanee.getName(), (name, count) -> count == 1 ? null : count - 1);
+        }
+        loanLedger.remove(book);
+    }
+
+    /**
+     * Rebuilds {@code loanIndex} and {@code loanLedger} from the loan status of the books currently in the book list.
+     */
+    private void rebuildLoanIndex() {
+        loanIndex.clear();
+        loanLedger.clear();
+        loanCounts.clear();
+        for (Book book : books) {
+            book.getLoanee().ifPresent(loanee -> recordLoan(book, loanee));
         }
     }
 
@@ -0,0 +1,84 @@
+package bookface.model;
+
+import java.util.Objects;
+
+/**
+ * A snapshot of the aggregate counts of the books, users and loans in BookFace.
+ * Guarantees: immutable.
+ */
+public class BookFaceStatistics {
+
+    private final int bookCount;
+    private final int personCount;
+    private final int loanCount;
+    private final int overdueCount;
+    private final int loaneeCount;
+
+    /**
+     * Every count must be non-negative.
+     */
+    public BookFaceStatistics(int bookCount, int personCount, int loanCount, int overdueCount, int loaneeCount) {
+        assert bookCount >= 0 && personCount >= 0 && loanCount >= 0 && overdueCount >= 0 && loaneeCount >= 0;
+        this.bookCount = bookCount;
+        this.personCount = personCount;
+        this.loanCount = loanCount;
+        this.overdueCount = overdueCount;
+        this.loaneeCount = loaneeCount;
+    }
+
+    public int getBookCount() {
+        return bookCount;
+    }
+
+    public int getPersonCount() {
+        return personCount;
+    }
+
+    public int getLoanCount() {
+        return loanCount;
+    }
+
+    public int getOverdueCount() {
+        return overdueCount;
+    }
+
+    public int getLoaneeCount() {
+        return loaneeCount;
+    }
+
+    /**
+     * Returns the average number of books on loan to each user with at least one loan.
+     */
+    public double getLoansPerLoanee() {
+        return loaneeCount == 0 ? 0 : (double) loanCount / loaneeCount;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof BookFaceStatistics)) {
+            return false;
+        }
+
+        BookFaceStatistics otherStatistics = (BookFaceStatistics) other;
+        return bookCount == otherStatistics.bookCount
+                && personCount == otherStatistics.personCount
+                && loanCount == otherStatistics.loanCount
+                && overdueCount == otherStatistics.overdueCount
+                && loaneeCount == otherStatistics.loaneeCount;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(bookCount, personCount, loanCount, overdueCount, loaneeCount);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Books: %d | Loaned: %d | Overdue: %d | Users: %d | Users with loans: %d",
+                bookCount, loanCount, overdueCount, personCount, loaneeCount);
+    }
+}
@@ -0,0 +1,106 @@
+package bookface.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import bookface.commons.util.CollectionUtil;
+import bookface.model.book.Book;
+
+/**
+ * Tracks the books on loan ordered by their return dates, so that overdue books can be counted with range queries
+ * whose cost depends on the number of matching books rather than the size of the catalog.
+ */
+public class LoanLedger {
+
+    private final NavigableMap<Date, Set<Book>> booksByReturnDate = new TreeMap<>();
+    private final Map<Book, Date> returnDates = new HashMap<>();
+
+    /**
+     * The date last passed to {@code countBooksDueBefore(Date)}, and the number of books due strictly before it.
+     * The count is kept up to date on every change, so that repeated counts with a later date only have to walk the
+     * books that became due in between.
+     */
+    private Date countCutoff = new Date(Long.MIN_VALUE);
+    private int countDueBeforeCutoff = 0;
+
+    /**
+     * Records that {@code book} is on loan and due on {@code returnDate}, replacing any earlier record of it.
+     */
+    public void add(Book book, Date returnDate) {
+        CollectionUtil.requireAllNonNull(book, returnDate);
+        remove(book);
+        Date key = new Date(returnDate.getTime());
+        returnDates.put(book, key);
+        booksByReturnDate.computeIfAbsent(key, unused -> new LinkedHashSet<>()).add(book);
+        if (key.before(countCutoff)) {
+            countDueBeforeCutoff++;
+        }
+    }
+
+    /**
+     * Removes the record of {@code book}, if any.
+     */
+    public void remove(Book book) {
+        requireNonNull(book);
+        Date returnDate = returnDates.remove(book);
+        if (returnDate == null) {
+            return;
+        }
+        if (returnDate.before(countCutoff)) {
+            countDueBeforeCutoff--;
+        }
+        Set<Book> dueOnDate = booksByReturnDate.get(returnDate);
+        dueOnDate.remove(book);
+        if (dueOnDate.isEmpty()) {
+            booksByReturnDate.remove(returnDate);
+        }
+    }
+
+    /**
+     * Removes all records from the ledger.
+     */
+    public void clear() {
+        booksByReturnDate.clear();
+        returnDates.clear();
+        countDueBeforeCutoff = 0;
+    }
+
+    /**
+     * Returns the number of books due strictly before {@code date}.
+     * Takes amortized constant time when called with dates that do not move backwards, such as the current time.
+     */
+    public int countBooksDueBefore(Date date) {
+        requireNonNull(date);
+        if (date.after(countCutoff)) {
+            countDueBeforeCutoff += countBooks(booksByReturnDate.subMap(countCutoff, true, date, false).values());
+        } else if (date.before(countCutoff)) {
+            countDueBeforeCutoff -= countBooks(booksByReturnDate.subMap(date, true, countCutoff, false).values());
+        }
+        countCutoff = new Date(date.getTime());
+        return countDueBeforeCutoff;
+    }
+
+    /**
+     * Returns the number of books recorded in the ledger.
+     */
+    public int size() {
+        return returnDates.size();
+    }
+
+    private static int countBooks(Collection<Set<Book>> booksByDate) {
+        int count = 0;
+        for (Set<Book> dueOnDate : booksByDate) {
+            count += dueOnDate.size();
+        }
+        return count;
+    }
+
+}
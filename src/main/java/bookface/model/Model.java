@@ -1,12 +1,17 @@
 package bookface.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import bookface.commons.core.GuiSettings;
 import bookface.model.book.Book;
+import bookface.model.person.Name;
 import bookface.model.person.Person;
+import bookface.model.tag.Tag;
 import javafx.collections.ObservableList;
 
 /**
@@ -25,26 +30,6 @@ public interface Model {
     /** {@code Predicate} returns true if book is loaned*/
     Predicate<Book> PREDICATE_ALL_LOANED_BOOKS = Book::isLoaned;
 
-    /** {@code Predicate} returns true for all persons with overdue books */
-    Predicate<Person> PREDICATE_OWE_OVERDUE_BOOKS = person -> {
-        if (person.hasBooksOnLoan()) {
-            for (Book book : person.getLoanedBooksSet()) {
-                if (book.isOverdue().orElse(false)) {
-                    return true;
-                }
-            }
-        }
-        return false;
-    };
-
-    /** {@code Predicate} returns true for all books due past return date */
-    Predicate<Book> PREDICATE_ALL_OVERDUE_BOOKS = book -> {
-        if (book.isLoaned()) {
-            return book.isOverdue().orElse(false);
-        }
-        return false;
-    };
-
     /**
      * Replaces user prefs data with the data in {@code userPrefs}.
      */
@@ -83,6 +68,11 @@ public interface Model {
     /** Returns the BookFace */
     ReadOnlyBookFace getBookFace();
 
+    /**
+     * Returns the modification version of BookFace, which increases whenever BookFace data is changed.
+     */
+    long getBookFaceVersion();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in BookFace.
      */
@@ -134,6 +124,29 @@ public interface Model {
      */
     void returnLoanedBook(Book book);
 
+    /**
+     * Returns the books whose title or author may contain any of {@code keywords} as part of a word, ignoring case.
+     * The result can include books that do not, and should be checked against the keywords by the caller.
+     */
+    Set<Book> getCandidateBooks(List<String> keywords);
+
+    /**
+     * Returns the names of the persons whose name, phone or email may contain any of {@code keywords} as part of a
+     * word, ignoring case. The result can include persons that do not, and should be checked against the keywords by
+     * the caller.
+     */
+    Set<Name> getCandidatePersonNames(List<String> keywords);
+
+    /**
+     * Returns the names of the persons carrying any of {@code tags}.
+     */
+    Set<Name> getPersonNamesWithAnyTag(Collection<Tag> tags);
+
+    /**
+     * Returns the current counts of books, users, loans and overdue loans in BookFace.
+     */
+    BookFaceStatistics getStatistics();
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
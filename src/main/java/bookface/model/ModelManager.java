@@ -3,7 +3,10 @@ package bookface.model;
 import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -11,7 +14,9 @@ import bookface.commons.core.GuiSettings;
 import bookface.commons.core.LogsCenter;
 import bookface.commons.util.CollectionUtil;
 import bookface.model.book.Book;
+import bookface.model.person.Name;
 import bookface.model.person.Person;
+import bookface.model.tag.Tag;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 
@@ -91,6 +96,11 @@ public class ModelManager implements Model {
         return bookFace;
     }
 
+    @Override
+    public long getBookFaceVersion() {
+        return bookFace.getVersion();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -155,6 +165,29 @@ public class ModelManager implements Model {
         bookFace.returnLoanedBook(book);
     }
 
+    @Override
+    public Set<Book> getCandidateBooks(List<String> keywords) {
+        requireNonNull(keywords);
+        return bookFace.getCandidateBooks(keywords);
+    }
+
+    @Override
+    public Set<Name> getCandidatePersonNames(List<String> keywords) {
+        requireNonNull(keywords);
+        return bookFace.getCandidatePersonNames(keywords);
+    }
+
+    @Override
+    public Set<Name> getPersonNamesWithAnyTag(Collection<Tag> tags) {
+        requireNonNull(tags);
+        return bookFace.getPersonNamesWithAnyTag(tags);
+    }
+
+    @Override
+    public BookFaceStatistics getStatistics() {
+        return bookFace.getStatistics(new Date());
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -0,0 +1,125 @@
+package bookface.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import bookface.commons.util.CollectionUtil;
+
+/**
+ * An inverted index from the case-insensitive n-grams of the words in some texts to the entries those texts belong to.
+ * Every substring of up to {@code GRAM_LENGTH} characters of every word is indexed, so that entries whose texts
+ * contain a keyword as part of a word can be found without scanning and re-splitting every text.
+ *
+ * Entries are compared using {@code Object#equals(Object)} and must not change their hash codes while indexed.
+ */
+public class NGramIndex<T> {
+
+    /** Length of the longest n-gram that is indexed. */
+    public static final int GRAM_LENGTH = 3;
+
+    private static final String WORD_SEPARATOR_REGEX = "\\s+";
+
+    private final Map<String, Set<T>> postings = new HashMap<>();
+
+    /**
+     * Indexes {@code entry} under the words in {@code texts}.
+     */
+    public void add(T entry, Collection<String> texts) {
+        CollectionUtil.requireAllNonNull(entry, texts);
+        for (String gram : gramsOf(texts)) {
+            postings.computeIfAbsent(gram, unused -> new HashSet<>()).add(entry);
+        }
+    }
+
+    /**
+     * Removes {@code entry}, which must have been indexed under the same {@code texts}.
+     */
+    public void remove(T entry, Collection<String> texts) {
+        CollectionUtil.requireAllNonNull(entry, texts);
+        for (String gram : gramsOf(texts)) {
+            Set<T> entries = postings.get(gram);
+            if (entries == null) {
+                continue;
+            }
+            entries.remove(entry);
+            if (entries.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Removes all entries from the index.
+     */
+    public void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Returns the entries whose texts may contain {@code keyword} within one word, ignoring case.
+     * The result is exact for keywords of up to {@code GRAM_LENGTH} characters. Longer keywords return every entry that
+     * contains all of the keyword's n-grams, which callers should check against the full keyword.
+     *
+     * @param keyword cannot be null, cannot be empty, must be a single word
+     */
+    public Set<T> getCandidates(String keyword) {
+        requireNonNull(keyword);
+        String word = keyword.trim().toLowerCase(Locale.ROOT);
+        if (word.isEmpty()) {
+            return Collections.emptySet();
+        }
+        if (word.length() <= GRAM_LENGTH) {
+            return new HashSet<>(postings.getOrDefault(word, Collections.emptySet()));
+        }
+
+        List<Set<T>> postingLists = new ArrayList<>();
+        for (int start = 0; start + GRAM_LENGTH <= word.length(); start++) {
+            Set<T> entries = postings.get(word.substring(start, start + GRAM_LENGTH));
+            if (entries == null) {
+                return Collections.emptySet();
+            }
+            postingLists.add(entries);
+        }
+        return intersect(postingLists);
+    }
+
+    /**
+     * Returns the entries present in every set in {@code postingLists}, walking the smallest set first.
+     */
+    private static <T> Set<T> intersect(List<Set<T>> postingLists) {
+        postingLists.sort((first, second) -> Integer.compare(first.size(), second.size()));
+        Set<T> result = new HashSet<>(postingLists.get(0));
+        for (int i = 1; i < postingLists.size() && !result.isEmpty(); i++) {
+            result.retainAll(postingLists.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the distinct n-grams of up to {@code GRAM_LENGTH} characters of every word in {@code texts}, in lower
+     * case.
+     */
+    private static Set<String> gramsOf(Collection<String> texts) {
+        Set<String> grams = new HashSet<>();
+        for (String text : texts) {
+            for (String word : text.toLowerCase(Locale.ROOT).split(WORD_SEPARATOR_REGEX)) {
+                for (int start = 0; start < word.length(); start++) {
+                    int maxEnd = Math.min(word.length(), start + GRAM_LENGTH);
+                    for (int end = start + 1; end <= maxEnd; end++) {
+                        grams.add(word.substring(start, end));
+                    }
+                }
+            }
+        }
+        return grams;
+    }
+}
@@ -1,5 +1,6 @@
 package bookface.model;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -22,6 +23,10 @@ public class ObjectContainsKeywordsPredicate<T, R> implements Predicate<T> {
         this.wrappedPredicate = wrappedPredicate;
     }
 
+    public List<R> getKeywords() {
+        return Collections.unmodifiableList(keywords);
+    }
+
     @Override
     public boolean test(T t) {
         return keywords.stream()
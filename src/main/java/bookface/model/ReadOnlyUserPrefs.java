@@ -2,6 +2,7 @@ package bookface.model;
 
 import java.nio.file.Path;
 
+import bookface.commons.core.DataFileFormat;
 import bookface.commons.core.GuiSettings;
 
 /**
@@ -13,4 +14,6 @@ public interface ReadOnlyUserPrefs {
 
     Path getBookFaceFilePath();
 
+    DataFileFormat getDataFileFormat();
+
 }
@@ -2,6 +2,7 @@ package bookface.model.book;
 
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -15,9 +16,10 @@ import bookface.model.person.Person;
 public class Book {
     private final Title title;
     private final Author author;
-    private Person loanee = null;
+    // volatile, as loans are made on the command thread while the UI shows the book
+    private volatile Person loanee = null;
 
-    private Date returnDate = null;
+    private volatile Date returnDate = null;
 
     /**
      * Every field must be present and not null. This is an overloaded constructor used in JsonAdaptedBook
@@ -97,6 +99,13 @@ public class Book {
         this.returnDate = null;
     }
 
+    /**
+     * Returns true if the book is on loan and due strictly before {@code date}.
+     */
+    public boolean isDueBefore(Date date) {
+        return returnDate != null && returnDate.before(date);
+    }
+
     /**
      * Checks if the book is overdue.
      * @return True if book is overdue, false otherwise
@@ -126,8 +135,8 @@ public class Book {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(title, author);
+        // titles are compared ignoring case in equals, so they must also be hashed ignoring case
+        return Objects.hash(title.bookTitle.toLowerCase(Locale.ROOT), author);
     }
 
     @Override
@@ -3,10 +3,16 @@ package bookface.model.book;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import bookface.commons.util.CollectionUtil;
+import bookface.model.NGramIndex;
 import bookface.model.book.exceptions.BookNotFoundException;
 import bookface.model.book.exceptions.DuplicateBookException;
 import bookface.model.person.Person;
@@ -22,12 +28,21 @@ public class BookList implements Iterable<Book> {
     private final ObservableList<Book> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /**
+     * Hash index from the books in {@code internalList} to their positions in it, keyed on the same identity used by
+     * {@code Book#equals}. Must be kept in sync with {@code internalList} by every mutating method.
+     */
+    private final Map<Book, Integer> bookPositions = new HashMap<>();
+
+    /** Inverted index from the n-grams of each book's title and author to the books in {@code internalList}. */
+    private final NGramIndex<Book> keywordIndex = new NGramIndex<>();
+
     /**
      * Returns true if the list contains an equivalent book as the given argument.
      */
     public boolean contains(Book toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return bookPositions.containsKey(toCheck);
     }
 
     /**
@@ -39,9 +54,22 @@ public class BookList implements Iterable<Book> {
         if (contains(book)) {
             throw new DuplicateBookException();
         }
+        bookPositions.put(book, internalList.size());
+        keywordIndex.add(book, indexedTextOf(book));
         internalList.add(book);
     }
 
+    /**
+     * Returns the books whose title or author may contain {@code keyword} as part of a word, ignoring case.
+     * The result can include books that do not, and should be checked against the keyword by the caller.
+     *
+     * @see NGramIndex#getCandidates(String)
+     */
+    public Set<Book> getCandidatesForKeyword(String keyword) {
+        requireNonNull(keyword);
+        return keywordIndex.getCandidates(keyword);
+    }
+
     /**
      * Replaces the book {@code target} in the list with {@code editedBook}.
      * {@code target} must exist in the list.
@@ -50,8 +78,7 @@ public class BookList implements Iterable<Book> {
     public void setBook(Book target, Book editedBook) {
         CollectionUtil.requireAllNonNull(target, editedBook);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        if (!contains(target)) {
             throw new BookNotFoundException();
         }
 
@@ -59,7 +86,11 @@ public class BookList implements Iterable<Book> {
             throw new DuplicateBookException();
         }
 
+        int index = bookPositions.remove(target);
+        keywordIndex.remove(target, indexedTextOf(target));
         internalList.set(index, editedBook);
+        bookPositions.put(editedBook, index);
+        keywordIndex.add(editedBook, indexedTextOf(editedBook));
     }
 
     /**
@@ -68,9 +99,13 @@ public class BookList implements Iterable<Book> {
      */
     public void delete(Book book) {
         requireNonNull(book);
-        if (!internalList.remove(book)) {
+        if (!contains(book)) {
             throw new BookNotFoundException();
         }
+        int index = bookPositions.remove(book);
+        keywordIndex.remove(book, indexedTextOf(book));
+        internalList.remove(index);
+        reindexFrom(index);
     }
 
     /**
@@ -80,8 +115,7 @@ public class BookList implements Iterable<Book> {
         requireNonNull(person);
         for (Book book : person.getLoanedBooksSet()) {
             book.markBookAsReturned();
-            int index = internalList.indexOf(book);
-            internalList.set(index, book);
+            refresh(book);
         }
     }
 
@@ -91,14 +125,14 @@ public class BookList implements Iterable<Book> {
     public void refreshBookListAfterEditingPerson(Person person) {
         requireNonNull(person);
         for (Book book : person.getLoanedBooksSet()) {
-            int index = internalList.indexOf(book);
-            internalList.set(index, book);
+            refresh(book);
         }
     }
 
     public void setBooks(BookList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        rebuildIndex();
     }
 
     /**
@@ -107,10 +141,52 @@ public class BookList implements Iterable<Book> {
      */
     public void setBooks(List<Book> books) {
         CollectionUtil.requireAllNonNull(books);
-        if (!booksAreUnique(books)) {
-            throw new DuplicateBookException();
+        Optional<Book> duplicate = findFirstDuplicate(books);
+        if (duplicate.isPresent()) {
+            throw new DuplicateBookException(duplicate.get());
         }
         internalList.setAll(books);
+        rebuildIndex();
+    }
+
+    /**
+     * Rebuilds {@code bookPositions} and {@code keywordIndex} from the current contents of {@code internalList}.
+     */
+    private void rebuildIndex() {
+        bookPositions.clear();
+        reindexFrom(0);
+        keywordIndex.clear();
+        for (Book book : internalList) {
+            keywordIndex.add(book, indexedTextOf(book));
+        }
+    }
+
+    /**
+     * Returns the texts of {@code book} that are searched by keyword.
+     */
+    private static List<String> indexedTextOf(Book book) {
+        return List.of(book.getTitle().toString(), book.getAuthor().toString());
+    }
+
+    /**
+     * Records the positions of the books in {@code internalList} from {@code fromIndex} onwards, which shift
+     * whenever a book before them is removed.
+     */
+    private void reindexFrom(int fromIndex) {
+        for (int i = fromIndex; i < internalList.size(); i++) {
+            bookPositions.put(internalList.get(i), i);
+        }
+    }
+
+    /**
+     * Replaces {@code book} with itself in {@code internalList}, so that observers of the list pick up changes to its
+     * loan status. Only the row holding {@code book} is touched.
+     */
+    private void refresh(Book book) {
+        Integer index = bookPositions.get(book);
+        if (index != null) {
+            internalList.set(index, book);
+        }
     }
 
     /**
@@ -138,17 +214,17 @@ public class BookList implements Iterable<Book> {
     }
 
     /**
-     * Returns true if {@code books} contains only unique books.
+     * Returns the first book in {@code books} that is equal to an earlier book in the list, or an empty
+     * {@code Optional} if {@code books} contains only unique books.
      */
-    private boolean booksAreUnique(List<Book> books) {
-        for (int i = 0; i < books.size() - 1; i++) {
-            for (int j = i + 1; j < books.size(); j++) {
-                if (books.get(i).equals(books.get(j))) {
-                    return false;
-                }
+    private Optional<Book> findFirstDuplicate(List<Book> books) {
+        Set<Book> seen = new HashSet<>();
+        for (Book book : books) {
+            if (!seen.add(book)) {
+                return Optional.of(book);
             }
         }
-        return true;
+        return Optional.empty();
     }
 
     /**
@@ -157,8 +233,7 @@ public class BookList implements Iterable<Book> {
     public void loan(Person person, Book book, Date returnDate) {
         CollectionUtil.requireAllNonNull(person, book, returnDate);
         book.loanTo(person, returnDate);
-        int index = internalList.indexOf(book);
-        internalList.set(index, book);
+        refresh(book);
     }
 
     /**
@@ -167,7 +242,6 @@ public class BookList implements Iterable<Book> {
     public void returnLoanedBook(Book book) {
         CollectionUtil.requireAllNonNull(book);
         book.markBookAsReturned();
-        int index = internalList.indexOf(book);
-        internalList.set(index, book);
+        refresh(book);
     }
 }
@@ -1,5 +1,7 @@
 package bookface.model.book.exceptions;
 
+import bookface.model.book.Book;
+
 /**
  * Signals that the operation will result in duplicate Books (Books are considered duplicates if they have the same
  * details).
@@ -8,4 +10,11 @@ public class DuplicateBookException extends RuntimeException {
     public DuplicateBookException() {
         super("Operation would result in duplicate books");
     }
+
+    /**
+     * Constructs a {@code DuplicateBookException} that names the first {@code duplicate} book found.
+     */
+    public DuplicateBookException(Book duplicate) {
+        super("Operation would result in duplicate books: " + duplicate);
+    }
 }
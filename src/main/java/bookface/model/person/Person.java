@@ -19,7 +19,11 @@ public class Person {
     private final Phone phone;
     private final Email email;
 
-    private final HashSet<Book> loanedBooks = new HashSet<>();
+    /**
+     * Unmodifiable set of the books loaned to this person, replaced rather than changed on every loan and return, so
+     * that it can be read by the UI while loans are made on another thread.
+     */
+    private volatile Set<Book> loanedBooks;
 
     // Data fields
     private final Set<Tag> tags = new HashSet<>();
@@ -32,7 +36,7 @@ public class Person {
         this.name = name;
         this.phone = phone;
         this.email = email;
-        this.loanedBooks.addAll(loanedBooks);
+        this.loanedBooks = Collections.unmodifiableSet(new HashSet<>(loanedBooks));
         this.tags.addAll(tags);
     }
 
@@ -52,6 +56,10 @@ public class Person {
         return loanedBooks.size() > 0;
     }
 
+    /**
+     * Returns an immutable set of the books loaned to this person at the time of the call, which later loans and
+     * returns do not change.
+     */
     public Set<Book> getLoanedBooksSet() {
         return loanedBooks;
     }
@@ -61,11 +69,18 @@ public class Person {
      * @param book book to be loaned
      */
     public void addLoanedBook(Book book) {
-        loanedBooks.add(book);
+        Set<Book> updatedLoanedBooks = new HashSet<>(loanedBooks);
+        updatedLoanedBooks.add(book);
+        loanedBooks = Collections.unmodifiableSet(updatedLoanedBooks);
     }
 
+    /**
+     * Removes {@code book} from the books loaned by this person.
+     */
     public void returnLoanedBook(Book book) {
-        this.loanedBooks.remove(book);
+        Set<Book> updatedLoanedBooks = new HashSet<>(loanedBooks);
+        updatedLoanedBooks.remove(book);
+        loanedBooks = Collections.unmodifiableSet(updatedLoanedBooks);
     }
 
 
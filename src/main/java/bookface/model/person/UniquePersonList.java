@@ -2,14 +2,21 @@ package bookface.model.person;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import bookface.commons.util.CollectionUtil;
+import bookface.model.NGramIndex;
 import bookface.model.book.Book;
 import bookface.model.person.exceptions.DuplicatePersonException;
 import bookface.model.person.exceptions.PersonNotFoundException;
+import bookface.model.tag.Tag;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
@@ -30,12 +37,36 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /**
+     * Secondary index from the {@code Name} of each person in {@code internalList}, the identity field used by
+     * {@code Person#isSamePerson(Person)}, to that person's position in the list. Must be kept in sync with
+     * {@code internalList} by every mutating method.
+     */
+    private final Map<Name, Integer> personPositions = new HashMap<>();
+
+    /**
+     * Inverted index from the n-grams of each person's name, phone and email to the {@code Name} of that person.
+     * Persons are indexed by name because their hash codes change with their loans.
+     */
+    private final NGramIndex<Name> keywordIndex = new NGramIndex<>();
+
+    /** Index from each tag to the {@code Name}s of the persons in {@code internalList} carrying it. */
+    private final Map<Tag, Set<Name>> tagIndex = new HashMap<>();
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return personPositions.containsKey(toCheck.getName());
+    }
+
+    /**
+     * Returns the person in the list with the given {@code name}, if any.
+     */
+    public Optional<Person> getPersonByName(Name name) {
+        requireNonNull(name);
+        return Optional.ofNullable(personPositions.get(name)).map(internalList::get);
     }
 
     /**
@@ -47,9 +78,32 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        personPositions.put(toAdd.getName(), internalList.size());
+        keywordIndex.add(toAdd.getName(), indexedTextOf(toAdd));
+        indexTags(toAdd);
         internalList.add(toAdd);
     }
 
+    /**
+     * Returns the names of the persons in the list carrying {@code tag}.
+     */
+    public Set<Name> getNamesWithTag(Tag tag) {
+        requireNonNull(tag);
+        return Collections.unmodifiableSet(tagIndex.getOrDefault(tag, Collections.emptySet()));
+    }
+
+    /**
+     * Returns the names of the persons whose name, phone or email may contain {@code keyword} as part of a word,
+     * ignoring case. The result can include persons that do not, and should be checked against the keyword by the
+     * caller.
+     *
+     * @see NGramIndex#getCandidates(String)
+     */
+    public Set<Name> getCandidatesForKeyword(String keyword) {
+        requireNonNull(keyword);
+        return keywordIndex.getCandidates(keyword);
+    }
+
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
@@ -58,7 +112,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         CollectionUtil.requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = positionOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -68,6 +122,12 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.set(index, editedPerson);
+        personPositions.remove(target.getName());
+        personPositions.put(editedPerson.getName(), index);
+        keywordIndex.remove(target.getName(), indexedTextOf(target));
+        keywordIndex.add(editedPerson.getName(), indexedTextOf(editedPerson));
+        unindexTags(target);
+        indexTags(editedPerson);
     }
 
     /**
@@ -79,14 +139,21 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = positionOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        internalList.remove(index);
+        personPositions.remove(toRemove.getName());
+        keywordIndex.remove(toRemove.getName(), indexedTextOf(toRemove));
+        unindexTags(toRemove);
+        reindexFrom(index);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        rebuildIndex();
     }
 
     /**
@@ -95,11 +162,89 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         CollectionUtil.requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        Optional<Person> duplicate = findFirstDuplicate(persons);
+        if (duplicate.isPresent()) {
+            throw new DuplicatePersonException(duplicate.get());
         }
 
         internalList.setAll(persons);
+        rebuildIndex();
+    }
+
+    /**
+     * Rebuilds {@code personPositions}, {@code keywordIndex} and {@code tagIndex} from the current contents of
+     * {@code internalList}.
+     */
+    private void rebuildIndex() {
+        personPositions.clear();
+        reindexFrom(0);
+        keywordIndex.clear();
+        tagIndex.clear();
+        for (Person person : internalList) {
+            keywordIndex.add(person.getName(), indexedTextOf(person));
+            indexTags(person);
+        }
+    }
+
+    /**
+     * Records {@code person} in {@code tagIndex} under each of its tags.
+     */
+    private void indexTags(Person person) {
+        for (Tag tag : person.getTags()) {
+            tagIndex.computeIfAbsent(tag, unused -> new HashSet<>()).add(person.getName());
+        }
+    }
+
+    /**
+     * Removes {@code person} from {@code tagIndex} under each of its tags.
+     */
+    private void unindexTags(Person person) {
+        for (Tag tag : person.getTags()) {
+            Set<Name> names = tagIndex.get(tag);
+            if (names == null) {
+                continue;
+            }
+            names.remove(person.getName());
+            if (names.isEmpty()) {
+                tagIndex.remove(tag);
+            }
+        }
+    }
+
+    /**
+     * Returns the texts of {@code person} that are searched by keyword.
+     */
+    private static List<String> indexedTextOf(Person person) {
+        return List.of(person.getName().fullName, person.getPhone().value, person.getEmail().value);
+    }
+
+    /**
+     * Records the positions of the persons in {@code internalList} from {@code fromIndex} onwards, which shift
+     * whenever a person before them is removed.
+     */
+    private void reindexFrom(int fromIndex) {
+        for (int i = fromIndex; i < internalList.size(); i++) {
+            personPositions.put(internalList.get(i).getName(), i);
+        }
+    }
+
+    /**
+     * Returns the position in {@code internalList} of the person equal to {@code person}, or -1 if there is none.
+     */
+    private int positionOf(Person person) {
+        Integer index = personPositions.get(person.getName());
+        return index != null && internalList.get(index).equals(person) ? index : -1;
+    }
+
+    /**
+     * Replaces {@code person} with itself in {@code internalList}, so that observers of the list pick up changes to
+     * its loans. Only the row holding {@code person} is touched.
+     */
+    private void refresh(Person person) {
+        int index = positionOf(person);
+        if (index != -1) {
+            internalList.set(index, person);
+        }
     }
 
     /**
@@ -127,17 +272,17 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the first person in {@code persons} with the same identity as an earlier person in the list, or an
+     * empty {@code Optional} if {@code persons} contains only unique persons.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private Optional<Person> findFirstDuplicate(List<Person> persons) {
+        Set<Name> seenNames = new HashSet<>();
+        for (Person person : persons) {
+            if (!seenNames.add(person.getName())) {
+                return Optional.of(person);
             }
         }
-        return true;
+        return Optional.empty();
     }
 
     /**
@@ -146,8 +291,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void loan(Person person, Book book) {
         CollectionUtil.requireAllNonNull(person, book);
         person.addLoanedBook(book);
-        int index = internalList.indexOf(person);
-        internalList.set(index, person);
+        refresh(person);
     }
 
     /**
@@ -158,25 +302,16 @@ public class UniquePersonList implements Iterable<Person> {
         Optional<Person> person = book.getLoanee();
         person.ifPresent((p) -> {
             assert book.isLoaned();
-            int index = internalList.indexOf(p);
-            internalList.set(index, p);
+            refresh(p);
         });
     }
 
     /**
-     * Returns the {@code book} loan.
+     * Returns the {@code book} loaned by {@code loanee}.
      */
-    public void returnLoanedBook(Book book) {
-        CollectionUtil.requireAllNonNull(book);
-        for (int i = 0; i < internalList.size(); i++) {
-            //todo this for-loop is inefficient, try to return loan from person without a loop
-            Person person = internalList.get(i);
-            if (person.hasPersonLoanedThisBook(book)) {
-                person.returnLoanedBook(book);
-                int index = internalList.indexOf(person);
-                internalList.set(index, person);
-                break;
-            }
-        }
+    public void returnLoanedBook(Person loanee, Book book) {
+        CollectionUtil.requireAllNonNull(loanee, book);
+        loanee.returnLoanedBook(book);
+        refresh(loanee);
     }
 }
@@ -1,5 +1,7 @@
 package bookface.model.person.exceptions;
 
+import bookface.model.person.Person;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
@@ -8,4 +10,11 @@ public class DuplicatePersonException extends RuntimeException {
     public DuplicatePersonException() {
         super("Operation would result in duplicate persons");
     }
+
+    /**
+     * Constructs a {@code DuplicatePersonException} that names the first {@code duplicate} person found.
+     */
+    public DuplicatePersonException(Person duplicate) {
+        super("Operation would result in duplicate persons: " + duplicate);
+    }
 }
@@ -0,0 +1,153 @@
+package bookface.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import bookface.commons.core.LogsCenter;
+import bookface.commons.util.StringUtil;
+import bookface.model.ReadOnlyBookFace;
+
+/**
+ * Saves BookFace data to a {@code BookFaceStorage} on a background thread, so that callers do not wait for the data
+ * to be encoded or the file to be written.
+ *
+ * Requesting a save only captures the changes made since the last one, and the data is encoded later on the
+ * background thread, while holding the lock that guards changes to the data. The lock is released before the encoded
+ * data is written, so that commands are not held up by the disk. Saves requested while an earlier save is being
+ * written are coalesced, so that only the latest of them is written.
+ */
+public class BackgroundBookFaceSaver {
+
+    private static final String THREAD_NAME = "BookFace saver";
+    private static final long IDLE_THREAD_TIMEOUT_SECONDS = 30;
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundBookFaceSaver.class);
+
+    private final BookFaceStorage storage;
+    private final Lock dataLock;
+    private final Consumer<IOException> failureHandler;
+    private final ThreadPoolExecutor executor;
+
+    /** The latest save that has been requested but is yet to start, if any. */
+    private BookFaceWrite queuedWrite;
+
+    /** Run once {@code queuedWrite} has been written. */
+    private Runnable queuedSuccessHandler;
+
+    /** The failure of the latest write, if it failed and has not been reported by {@link #flush()}. */
+    private IOException lastFailure;
+
+    /**
+     * Creates a {@code BackgroundBookFaceSaver} that saves to {@code storage}, and passes the cause of any failed
+     * write to {@code failureHandler} on the background thread. The data saved must only be modified while holding
+     * {@code dataLock}, which is held while the data is read and encoded, but not while it is written.
+     */
+    public BackgroundBookFaceSaver(BookFaceStorage storage, Lock dataLock, Consumer<IOException> failureHandler) {
+        requireNonNull(storage);
+        requireNonNull(dataLock);
+        requireNonNull(failureHandler);
+        this.storage = storage;
+        this.dataLock = dataLock;
+        this.failureHandler = failureHandler;
+        executor = new ThreadPoolExecutor(1, 1, IDLE_THREAD_TIMEOUT_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, THREAD_NAME);
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Saves {@code bookFace} in the background. Must be called while holding the data lock, after the changes to be
+     * saved have been made. The data written includes any changes made after this call and before it is written.
+     */
+    public void save(ReadOnlyBookFace bookFace) {
+        save(bookFace, () -> { });
+    }
+
+    /**
+     * Similar to {@link #save(ReadOnlyBookFace)}, but runs {@code successHandler} on the background thread once the
+     * data has been written. It is not run if the write fails, or is skipped in favour of a later save.
+     */
+    public synchronized void save(ReadOnlyBookFace bookFace, Runnable successHandler) {
+        requireNonNull(bookFace);
+        requireNonNull(successHandler);
+        boolean isWriteQueued = queuedWrite != null;
+        queuedWrite = storage.prepareSaveBookFace(bookFace);
+        queuedSuccessHandler = successHandler;
+        if (!isWriteQueued) {
+            executor.execute(this::writeQueuedSave);
+        }
+    }
+
+    /**
+     * Blocks until every save requested so far has been written.
+     *
+     * @throws IOException if the latest write failed.
+     */
+    public void flush() throws IOException {
+        try {
+            // the executor runs tasks one at a time in order, so this runs after every save requested so far
+            executor.submit(() -> null).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for BookFace to be saved");
+        } catch (ExecutionException ee) {
+            throw new AssertionError("An empty task cannot fail", ee);
+        }
+
+        IOException failure;
+        synchronized (this) {
+            failure = lastFailure;
+            lastFailure = null;
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void writeQueuedSave() {
+        BookFaceWrite write;
+        Runnable successHandler;
+        synchronized (this) {
+            write = queuedWrite;
+            successHandler = queuedSuccessHandler;
+            queuedWrite = null;
+            queuedSuccessHandler = null;
+        }
+
+        try {
+            BookFaceWrite.FileWrite fileWrite;
+            dataLock.lock();
+            try {
+                fileWrite = write.encode();
+            } catch (IllegalStateException ise) {
+                // reported like a failed write, rather than lost with the background thread
+                throw new IOException("BookFace data could not be encoded: " + ise.getMessage(), ise);
+            } finally {
+                dataLock.unlock();
+            }
+            fileWrite.write();
+            synchronized (this) {
+                lastFailure = null;
+            }
+            successHandler.run();
+        } catch (IOException ioe) {
+            logger.warning("Failed to save BookFace: " + StringUtil.getDetails(ioe));
+            synchronized (this) {
+                lastFailure = ioe;
+            }
+            failureHandler.accept(ioe);
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package bookface.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+import bookface.commons.exceptions.IllegalValueException;
+import bookface.model.BookFace;
+import bookface.model.ReadOnlyBookFace;
+import bookface.model.book.Author;
+import bookface.model.book.Book;
+import bookface.model.book.Title;
+import bookface.model.person.Email;
+import bookface.model.person.Name;
+import bookface.model.person.Person;
+import bookface.model.person.Phone;
+import bookface.model.tag.Tag;
+
+/**
+ * Encodes BookFace data into, and decodes it from, the binary data file format.
+ *
+ * A binary data file holds, in order:
+ * <ol>
+ *     <li>the magic number {@code BKFC} and the format version,</li>
+ *     <li>a table of every distinct author, then a table of every distinct tag,</li>
+ *     <li>the persons, each with its tags as indices into the tag table and its loaned books,</li>
+ *     <li>the books not on loan,</li>
+ *     <li>a CRC-32 checksum of everything before it.</li>
+ * </ol>
+ * Counts and indices are 4-byte integers, strings are a 4-byte length followed by that many bytes of UTF-8, books
+ * refer to their author by index into the author table and return dates are stored as days since the epoch.
+ */
+class BinaryBookFaceCodec {
+
+    static final int MAGIC = 0x424B4643; // "BKFC" in ASCII
+    static final int FORMAT_VERSION = 1;
+
+    static final String MESSAGE_NOT_BINARY_DATA_FILE = "File is not a BookFace binary data file.";
+    static final String MESSAGE_UNSUPPORTED_VERSION = "Binary data file version %d is not supported.";
+    static final String MESSAGE_CORRUPTED = "Binary data file is corrupted.";
+
+    private static final int HEADER_SIZE = 2 * Integer.BYTES;
+    private static final int CHECKSUM_SIZE = Integer.BYTES;
+
+    /**
+     * Returns {@code bookFace} encoded in the binary data file format.
+     *
+     * @throws IllegalStateException if the loans of the books and of the persons in {@code bookFace} disagree.
+     */
+    static byte[] encode(ReadOnlyBookFace bookFace) {
+        LoanConsistency.check(bookFace);
+        StringTable authors = new StringTable();
+        StringTable tags = new StringTable();
+        for (Person person : bookFace.getPersonList()) {
+            person.getTags().forEach(tag -> tags.add(tag.tagName));
+            person.getLoanedBooksSet().forEach(book -> authors.add(book.getAuthor().bookAuthor));
+        }
+        List<Book> unloanedBooks = new ArrayList<>();
+        for (Book book : bookFace.getBookList()) {
+            if (!book.isLoaned()) {
+                unloanedBooks.add(book);
+                authors.add(book.getAuthor().bookAuthor);
+            }
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            authors.writeTo(out);
+            tags.writeTo(out);
+
+            out.writeInt(bookFace.getPersonList().size());
+            for (Person person : bookFace.getPersonList()) {
+                writeString(out, person.getName().fullName);
+                writeString(out, person.getPhone().value);
+                writeString(out, person.getEmail().value);
+                out.writeInt(person.getTags().size());
+                for (Tag tag : person.getTags()) {
+                    out.writeInt(tags.indexOf(tag.tagName));
+                }
+                out.writeInt(person.getLoanedBooksSet().size());
+                for (Book book : person.getLoanedBooksSet()) {
+                    writeBook(out, book, authors);
+                    out.writeInt(toEpochDay(book.getReturnDate().orElseThrow()));
+                }
+            }
+
+            out.writeInt(unloanedBooks.size());
+            for (Book book : unloanedBooks) {
+                writeBook(out, book, authors);
+            }
+        } catch (IOException ioe) {
+            throw new AssertionError("Writing to a byte array should not fail", ioe);
+        }
+
+        CRC32 checksum = new CRC32();
+        checksum.update(bytes.toByteArray());
+        ByteBuffer trailer = ByteBuffer.allocate(CHECKSUM_SIZE).putInt((int) checksum.getValue());
+        bytes.writeBytes(trailer.array());
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Returns the BookFace encoded in {@code buffer}, from its position to its limit.
+     *
+     * @throws IllegalValueException if {@code buffer} is not a valid binary data file, or any data constraints
+     *     were violated.
+     */
+    static BookFace decode(ByteBuffer buffer) throws IllegalValueException {
+        if (buffer.remaining() < HEADER_SIZE + CHECKSUM_SIZE || buffer.getInt(buffer.position()) != MAGIC) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_DATA_FILE);
+        }
+        int version = buffer.getInt(buffer.position() + Integer.BYTES);
+        if (version != FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        verifyChecksum(buffer);
+
+        ByteBuffer content = buffer.slice();
+        content.limit(content.limit() - CHECKSUM_SIZE);
+        content.position(HEADER_SIZE);
+        try {
+            BookFace bookFace = decodeContent(content);
+            if (content.hasRemaining()) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+            return bookFace;
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED, e);
+        }
+    }
+
+    private static BookFace decodeContent(ByteBuffer in) throws IllegalValueException {
+        // authors and tags are validated once each here, rather than once for every book or person using them
+        List<String> authorNames = readStrings(in);
+        Author[] authors = new Author[authorNames.size()];
+        for (int i = 0; i < authors.length; i++) {
+            if (!Author.isValidAuthor(authorNames.get(i))) {
+                throw new IllegalValueException(Author.MESSAGE_CONSTRAINTS);
+            }
+            authors[i] = new Author(authorNames.get(i));
+        }
+        List<String> tagNames = readStrings(in);
+        Tag[] tags = new Tag[tagNames.size()];
+        for (int i = 0; i < tags.length; i++) {
+            if (!Tag.isValidTagName(tagNames.get(i))) {
+                throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+            }
+            tags[i] = new Tag(tagNames.get(i));
+        }
+
+        BookFace bookFace = new BookFace();
+        int personCount = readCount(in);
+        for (int i = 0; i < personCount; i++) {
+            JsonSerializableBookFace.addPerson(bookFace, readPerson(in, authors, tags));
+        }
+        int bookCount = readCount(in);
+        for (int i = 0; i < bookCount; i++) {
+            JsonSerializableBookFace.addBook(bookFace, readBook(in, authors));
+        }
+        return bookFace;
+    }
+
+    private static Person readPerson(ByteBuffer in, Author[] authors, Tag[] tags) throws IllegalValueException {
+        String name = readString(in);
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        String phone = readString(in);
+        if (!Phone.isValidPhone(phone)) {
+            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
+        }
+        String email = readString(in);
+        if (!Email.isValidEmail(email)) {
+            throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
+        }
+
+        Set<Tag> personTags = new HashSet<>();
+        int tagCount = readCount(in);
+        for (int i = 0; i < tagCount; i++) {
+            if (!personTags.add(tags[readIndex(in, tags.length)])) {
+                throw new IllegalValueException("A person has duplicate tag(s).");
+            }
+        }
+
+        Set<Book> loanedBooks = new HashSet<>();
+        int loanCount = readCount(in);
+        for (int i = 0; i < loanCount; i++) {
+            Book book = readBook(in, authors);
+            Book loanedBook = new Book(book.getTitle(), book.getAuthor(), toDate(in.getInt()));
+            if (!loanedBooks.add(loanedBook)) {
+                throw new IllegalValueException(JsonSerializableBookFace.MESSAGE_DUPLICATE_BOOK);
+            }
+        }
+        return new Person(new Name(name), new Phone(phone), new Email(email), loanedBooks, personTags);
+    }
+
+    private static Book readBook(ByteBuffer in, Author[] authors) throws IllegalValueException {
+        String title = readString(in);
+        if (!Title.isValidTitle(title)) {
+            throw new IllegalValueException(Title.MESSAGE_CONSTRAINTS);
+        }
+        return new Book(new Title(title), authors[readIndex(in, authors.length)]);
+    }
+
+    private static void writeBook(DataOutputStream out, Book book, StringTable authors) throws IOException {
+        writeString(out, book.getTitle().bookTitle);
+        out.writeInt(authors.indexOf(book.getAuthor().bookAuthor));
+    }
+
+    private static void verifyChecksum(ByteBuffer buffer) throws IllegalValueException {
+        ByteBuffer checked = buffer.duplicate();
+        int checksumPosition = buffer.limit() - CHECKSUM_SIZE;
+        checked.limit(checksumPosition);
+        CRC32 checksum = new CRC32();
+        checksum.update(checked);
+        if ((int) checksum.getValue() != buffer.getInt(checksumPosition)) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+    }
+
+    private static List<String> readStrings(ByteBuffer in) throws IllegalValueException {
+        int count = readCount(in);
+        List<String> strings = new ArrayList<>(Math.min(count, in.remaining() / Integer.BYTES));
+        for (int i = 0; i < count; i++) {
+            strings.add(readString(in));
+        }
+        return strings;
+    }
+
+    private static String readString(ByteBuffer in) throws IllegalValueException {
+        int length = readCount(in);
+        if (length > in.remaining()) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    private static void writeString(DataOutputStream out, String string) throws IOException {
+        byte[] bytes = string.getBytes(UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static int readCount(ByteBuffer in) throws IllegalValueException {
+        int count = in.getInt();
+        if (count < 0) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        return count;
+    }
+
+    private static int readIndex(ByteBuffer in, int tableSize) throws IllegalValueException {
+        int index = in.getInt();
+        if (index < 0 || index >= tableSize) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        return index;
+    }
+
+    /**
+     * Returns the number of days since the epoch of the day {@code date} falls on in the system time zone, the
+     * same day that json data files record for it.
+     */
+    private static int toEpochDay(Date date) {
+        return Math.toIntExact(date.toInstant().atZone(ZoneId.systemDefault()).toLocalDate().toEpochDay());
+    }
+
+    private static Date toDate(int epochDay) {
+        return Date.from(LocalDate.ofEpochDay(epochDay).atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+
+    /**
+     * Strings numbered in the order they were first added.
+     */
+    private static class StringTable {
+        private final Map<String, Integer> indices = new LinkedHashMap<>();
+
+        void add(String string) {
+            indices.putIfAbsent(string, indices.size());
+        }
+
+        int indexOf(String string) {
+            return indices.get(string);
+        }
+
+        void writeTo(DataOutputStream out) throws IOException {
+            out.writeInt(indices.size());
+            for (String string : indices.keySet()) {
+                writeString(out, string);
+            }
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package bookface.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import bookface.commons.core.LogsCenter;
+import bookface.commons.exceptions.DataConversionException;
+import bookface.commons.exceptions.IllegalValueException;
+import bookface.commons.util.FileUtil;
+import bookface.model.ReadOnlyBookFace;
+
+/**
+ * A class to access BookFace data stored as a binary snapshot on the hard disk. Binary data files are smaller and
+ * faster to load than json ones, but cannot be edited by hand, so BookFace data can still be imported from and
+ * exported to json. Whichever of the binary and json data files was saved last holds the latest data, so the data
+ * file format can be switched either way without losing changes.
+ *
+ * @see BinaryBookFaceCodec
+ */
+public class BinaryBookFaceStorage implements BookFaceStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryBookFaceStorage.class);
+
+    private static final String JSON_EXTENSION = ".json";
+    private static final String BINARY_EXTENSION = ".bin";
+
+    /**
+     * Whether data files are memory-mapped when read. Windows does not allow a file that is mapped to be replaced,
+     * and a mapping is only released when garbage collected, so data files are read into memory there instead.
+     */
+    private static final boolean CAN_MAP_DATA_FILES = !System.getProperty("os.name").startsWith("Windows");
+
+    private final Path filePath;
+    private final Path jsonFilePath;
+
+    /**
+     * Creates a {@code BinaryBookFaceStorage} that stores its data in the binary data file next to
+     * {@code jsonFilePath}. If that file does not exist yet, or was saved before {@code jsonFilePath}, the data in
+     * {@code jsonFilePath} is read instead.
+     */
+    public BinaryBookFaceStorage(Path jsonFilePath) {
+        this(getBinaryFilePath(jsonFilePath), jsonFilePath);
+    }
+
+    /**
+     * Creates a {@code BinaryBookFaceStorage} that stores its data in {@code filePath}. If that file does not exist
+     * yet, or was saved before the json data file {@code jsonFilePath}, the data in {@code jsonFilePath} is read
+     * instead.
+     */
+    public BinaryBookFaceStorage(Path filePath, Path jsonFilePath) {
+        requireNonNull(filePath);
+        requireNonNull(jsonFilePath);
+        this.filePath = filePath;
+        this.jsonFilePath = jsonFilePath;
+    }
+
+    /**
+     * Returns the path of the binary data file kept next to the json data file {@code jsonFilePath}.
+     */
+    public static Path getBinaryFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        if (fileName.endsWith(JSON_EXTENSION)) {
+            fileName = fileName.substring(0, fileName.length() - JSON_EXTENSION.length());
+        }
+        return jsonFilePath.resolveSibling(fileName + BINARY_EXTENSION);
+    }
+
+    public Path getBookFaceFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyBookFace> readBookFace() throws DataConversionException {
+        if (getLastSavedTime(jsonFilePath).compareTo(getLastSavedTime(filePath)) > 0) {
+            logger.info("Binary data file " + filePath + " not found or older than " + jsonFilePath
+                    + ". Importing data from " + jsonFilePath);
+            return importJson(jsonFilePath);
+        }
+        return readBookFace(filePath);
+    }
+
+    /**
+     * Similar to {@link #readBookFace()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyBookFace> readBookFace(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+        return DataFileRecovery.readLatestGoodVersion(filePath, BinaryBookFaceStorage::readDataFile);
+    }
+
+    @Override
+    public void saveBookFace(ReadOnlyBookFace bookFace) throws IOException {
+        saveBookFace(bookFace, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveBookFace(ReadOnlyBookFace)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveBookFace(ReadOnlyBookFace bookFace, Path filePath) throws IOException {
+        requireNonNull(bookFace);
+        requireNonNull(filePath);
+
+        writeDataFile(BinaryBookFaceCodec.encode(bookFace), filePath);
+    }
+
+    @Override
+    public BookFaceWrite prepareSaveBookFace(ReadOnlyBookFace bookFace) {
+        requireNonNull(bookFace);
+
+        return () -> encodeDataFile(bookFace, filePath);
+    }
+
+    /**
+     * Returns the BookFace data in the json data file {@code jsonFilePath}, with the changes in its journal applied.
+     *
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyBookFace> importJson(Path jsonFilePath) throws DataConversionException {
+        requireNonNull(jsonFilePath);
+        return new JournaledBookFaceStorage(jsonFilePath).readBookFace(jsonFilePath);
+    }
+
+    /**
+     * Saves {@code bookFace} as the json data file {@code jsonFilePath}, discarding its journal.
+     */
+    public void exportJson(ReadOnlyBookFace bookFace, Path jsonFilePath) throws IOException {
+        requireNonNull(bookFace);
+        requireNonNull(jsonFilePath);
+        new JournaledBookFaceStorage(jsonFilePath).saveBookFace(bookFace);
+    }
+
+    /**
+     * Exports the data in the binary data file to the json data file if the binary data file was saved after it,
+     * so that the changes made while BookFace stored its data in binary are kept once it stores its data in json
+     * again.
+     *
+     * @return true if the data was exported.
+     * @throws DataConversionException if the binary data file is not in the correct format.
+     */
+    public boolean exportJsonIfNewer() throws DataConversionException, IOException {
+        if (getLastSavedTime(filePath).compareTo(getLastSavedTime(jsonFilePath)) <= 0) {
+            return false;
+        }
+        Optional<ReadOnlyBookFace> bookFace = readBookFace(filePath);
+        if (bookFace.isEmpty()) {
+            return false;
+        }
+        logger.info("Binary data file " + filePath + " is newer than " + jsonFilePath + ". Exporting data to "
+                + jsonFilePath);
+        exportJson(bookFace.get(), jsonFilePath);
+        return true;
+    }
+
+    /**
+     * Returns the time the data file {@code filePath} was last saved, including its previous version and journal if
+     * it has them, or the earliest possible time if it has never been saved.
+     */
+    private static FileTime getLastSavedTime(Path filePath) {
+        FileTime lastSavedTime = FileTime.from(Instant.MIN);
+        for (Path path : List.of(filePath, FileUtil.getBackupPath(filePath),
+                JournaledBookFaceStorage.getJournalFilePath(filePath))) {
+            try {
+                FileTime modifiedTime = Files.getLastModifiedTime(path);
+                if (modifiedTime.compareTo(lastSavedTime) > 0) {
+                    lastSavedTime = modifiedTime;
+                }
+            } catch (IOException ioe) {
+                // the file does not exist, so it was never saved
+            }
+        }
+        return lastSavedTime;
+    }
+
+    /**
+     * Returns the write of {@code bookFace} to {@code filePath}, with the data already encoded.
+     */
+    private static BookFaceWrite.FileWrite encodeDataFile(ReadOnlyBookFace bookFace, Path filePath) {
+        byte[] snapshot = BinaryBookFaceCodec.encode(bookFace);
+        return () -> writeDataFile(snapshot, filePath);
+    }
+
+    private static void writeDataFile(byte[] snapshot, Path filePath) throws IOException {
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeToFileKeepingBackup(filePath, out -> out.write(snapshot));
+    }
+
+    /**
+     * Returns the BookFace in the binary data file {@code filePath}, or {@code Optional.empty()} if it is not found.
+     */
+    private static Optional<ReadOnlyBookFace> readDataFile(Path filePath) throws DataConversionException {
+        if (!Files.exists(filePath)) {
+            logger.info("Binary data file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            ByteBuffer buffer;
+            if (CAN_MAP_DATA_FILES) {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            } else {
+                buffer = ByteBuffer.wrap(Files.readAllBytes(filePath));
+            }
+            return Optional.of(BinaryBookFaceCodec.decode(buffer));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary data file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+}
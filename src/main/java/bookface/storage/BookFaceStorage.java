@@ -43,4 +43,14 @@ public interface BookFaceStorage {
      */
     void saveBookFace(ReadOnlyBookFace bookFace, Path filePath) throws IOException;
 
+    /**
+     * Returns the write that saves the given {@link ReadOnlyBookFace} to the storage. This only captures what has
+     * changed in {@code bookFace} since the last save, and the write encodes the data itself, so the write can run
+     * later on another thread, but not while {@code bookFace} is being modified. The write saves {@code bookFace} as
+     * it is when the write runs. Writes must run in the order they were prepared, but a write can be skipped if a
+     * write prepared after it runs instead.
+     * @param bookFace cannot be null.
+     */
+    BookFaceWrite prepareSaveBookFace(ReadOnlyBookFace bookFace);
+
 }
@@ -0,0 +1,38 @@
+package bookface.storage;
+
+import java.io.IOException;
+
+/**
+ * A save of BookFace data that has been captured from the model and is waiting to be written to storage.
+ */
+@FunctionalInterface
+public interface BookFaceWrite {
+
+    /**
+     * Reads the captured data from BookFace and encodes it, which must not overlap with changes to BookFace.
+     * Returns the write of the encoded data, which no longer reads BookFace and so can overlap with them.
+     * @throws IOException if there was any problem encoding the data.
+     */
+    FileWrite encode() throws IOException;
+
+    /**
+     * Encodes the captured data and writes it to storage.
+     * @throws IOException if there was any problem encoding the data or writing to the file.
+     */
+    default void write() throws IOException {
+        encode().write();
+    }
+
+    /**
+     * BookFace data that has been encoded and is waiting to be written to a file.
+     */
+    @FunctionalInterface
+    interface FileWrite {
+
+        /**
+         * Writes the encoded data to the file.
+         * @throws IOException if there was any problem writing to the file.
+         */
+        void write() throws IOException;
+    }
+}
@@ -0,0 +1,40 @@
+package bookface.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.Logger;
+
+import bookface.commons.core.LogsCenter;
+import bookface.commons.util.FileUtil;
+
+/**
+ * Upgrades json data files written in an older format to the format written by {@link JsonBookFaceWriter}.
+ */
+class DataFileMigration {
+
+    private static final Logger logger = LogsCenter.getLogger(DataFileMigration.class);
+
+    /**
+     * Rewrites the data file {@code filePath} with {@code rewrite} if it was written in an older format. The old
+     * file is kept by {@link FileUtil#writeToFileKeepingBackup(Path, FileUtil.ContentWriter)}. A failed rewrite is
+     * only logged, as the old file can still be read and will be rewritten at the next save.
+     */
+    static void migrateIfOutdated(Path filePath, BookFaceWrite.FileWrite rewrite) {
+        if (!Files.exists(filePath)) {
+            return;
+        }
+
+        try {
+            int formatVersion = JsonBookFaceReader.readFormatVersion(filePath);
+            if (formatVersion >= JsonBookFaceReader.FORMAT_VERSION) {
+                return;
+            }
+            logger.info("Migrating data file " + filePath + " from format version " + formatVersion + " to "
+                    + JsonBookFaceReader.FORMAT_VERSION);
+            rewrite.write();
+        } catch (IOException ioe) {
+            logger.warning("Failed to migrate data file " + filePath + ": " + ioe);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package bookface.storage;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import bookface.commons.core.LogsCenter;
+import bookface.commons.exceptions.DataConversionException;
+import bookface.commons.util.FileUtil;
+import bookface.model.ReadOnlyBookFace;
+
+/**
+ * Reads BookFace data files, falling back to the previous version of a data file that is missing or cannot be read.
+ */
+class DataFileRecovery {
+
+    private static final Logger logger = LogsCenter.getLogger(DataFileRecovery.class);
+
+    /**
+     * Reads the BookFace data in a given data file.
+     */
+    @FunctionalInterface
+    interface DataFileReader {
+        Optional<ReadOnlyBookFace> read(Path dataFilePath) throws DataConversionException;
+    }
+
+    /**
+     * Returns the BookFace data in {@code filePath} as read by {@code reader}. If that file is missing or not in the
+     * correct format, and its previous version was kept by {@link FileUtil#writeToFileKeepingBackup(Path, String)},
+     * the previous version is read instead.
+     *
+     * @throws DataConversionException if neither version of the file is in the correct format.
+     */
+    static Optional<ReadOnlyBookFace> readLatestGoodVersion(Path filePath, DataFileReader reader)
+            throws DataConversionException {
+        Path backupFilePath = FileUtil.getBackupPath(filePath);
+        if (!Files.exists(backupFilePath)) {
+            return reader.read(filePath);
+        }
+
+        if (!Files.exists(filePath)) {
+            logger.warning("Data file " + filePath + " not found. Recovering its previous version from "
+                    + backupFilePath);
+            return reader.read(backupFilePath);
+        }
+
+        try {
+            return reader.read(filePath);
+        } catch (DataConversionException dce) {
+            logger.warning("Data file " + filePath + " is not in the correct format. Recovering its previous version "
+                    + "from " + backupFilePath);
+            return reader.read(backupFilePath);
+        }
+    }
+}
@@ -0,0 +1,413 @@
+package bookface.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import bookface.commons.core.LogsCenter;
+import bookface.commons.exceptions.DataConversionException;
+import bookface.commons.exceptions.IllegalValueException;
+import bookface.commons.util.FileUtil;
+import bookface.commons.util.JsonUtil;
+import bookface.model.ReadOnlyBookFace;
+import bookface.model.book.Book;
+import bookface.model.person.Person;
+import javafx.collections.ListChangeListener;
+
+/**
+ * A class to access BookFace data stored as a json file on the hard disk, together with a journal of the changes
+ * made since the file was last written.
+ *
+ * Rather than rewriting the whole file on every save, the persons and books that changed since the last save are
+ * appended to the journal, one json entry per line. The journal is folded back into the file once it holds
+ * {@code compactionThreshold} entries, and whenever a change touches many records at once.
+ */
+public class JournaledBookFaceStorage implements BookFaceStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+    private static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledBookFaceStorage.class);
+
+    private final Path filePath;
+    private final int compactionThreshold;
+    private final boolean isCompact;
+
+    /** Changes observed since the last save was prepared, in the order they were made. */
+    private final List<JsonAdaptedJournalEntry> pendingEntries = new ArrayList<>();
+
+    /** Changes captured by a prepared save that are yet to be appended to the journal. */
+    private final List<JsonAdaptedJournalEntry> unwrittenEntries = new ArrayList<>();
+
+    private final ListChangeListener<Person> personListener =
+            change -> recordChange(change, person -> person.getName().fullName, JsonAdaptedJournalEntry::putPerson,
+                    JsonAdaptedJournalEntry::removePerson);
+    private final ListChangeListener<Book> bookListener =
+            change -> recordChange(change, JsonAdaptedBook::identityKeyOf, JsonAdaptedJournalEntry::putBook,
+                    JsonAdaptedJournalEntry::removeBook);
+
+    /** The BookFace whose changes are being journaled, if any. */
+    private ReadOnlyBookFace trackedBookFace;
+
+    /** Number of entries in the journal file. */
+    private int journalEntryCount;
+
+    /** Whether the next save has to write the whole file, because the pending changes do not describe the state. */
+    private boolean isSnapshotRequired = true;
+
+    /** Number of saves of the whole file prepared so far. */
+    private long preparedSnapshotCount;
+
+    /** Number of the latest prepared save of the whole file that has been written. */
+    private long writtenSnapshotNumber;
+
+    public JournaledBookFaceStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournaledBookFaceStorage} that writes the whole file at {@code filePath} once its journal
+     * holds {@code compactionThreshold} entries.
+     */
+    public JournaledBookFaceStorage(Path filePath, int compactionThreshold) {
+        this(filePath, compactionThreshold, false);
+    }
+
+    /**
+     * Creates a {@code JournaledBookFaceStorage} that writes the whole file at {@code filePath} once its journal
+     * holds {@code compactionThreshold} entries, without indentation or line breaks if {@code isCompact} is true.
+     */
+    public JournaledBookFaceStorage(Path filePath, int compactionThreshold, boolean isCompact) {
+        assert compactionThreshold > 0;
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+        this.isCompact = isCompact;
+    }
+
+    public Path getBookFaceFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal kept alongside the data file at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    /**
+     * {@inheritDoc}
+     * A data file written in an older format is rewritten in the current format once it is read, with the changes
+     * in the journal folded in.
+     */
+    @Override
+    public Optional<ReadOnlyBookFace> readBookFace() throws DataConversionException {
+        Optional<ReadOnlyBookFace> bookFace = readBookFace(filePath);
+        if (bookFace.isPresent()) {
+            DataFileMigration.migrateIfOutdated(filePath, () -> {
+                writeSnapshot(bookFace.get(), filePath);
+                synchronized (this) {
+                    journalEntryCount = 0;
+                }
+            });
+        }
+        return bookFace;
+    }
+
+    /**
+     * Similar to {@link #readBookFace()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file or its journal is not in the correct format.
+     */
+    public Optional<ReadOnlyBookFace> readBookFace(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+        // the journal holds the changes made after the file was last written, which do not apply to the previous
+        // version of the file, so the changes are lost if that version has to be recovered
+        return DataFileRecovery.readLatestGoodVersion(filePath, dataFilePath -> dataFilePath.equals(filePath)
+                ? readBookFace(dataFilePath, getJournalFilePath(filePath))
+                : readBookFace(dataFilePath, null));
+    }
+
+    /**
+     * Returns the BookFace data in {@code dataFilePath} with the changes in {@code journalFilePath} applied, if it
+     * is not null. Without a journal, the data file is converted into model objects as it is read.
+     */
+    private Optional<ReadOnlyBookFace> readBookFace(Path dataFilePath, Path journalFilePath)
+            throws DataConversionException {
+        if (journalFilePath == null) {
+            return JsonBookFaceReader.readBookFace(dataFilePath);
+        }
+
+        boolean isOwnJournal = journalFilePath.equals(getJournalFilePath(filePath));
+        if (!Files.exists(journalFilePath)) {
+            if (isOwnJournal) {
+                synchronized (this) {
+                    journalEntryCount = 0;
+                }
+            }
+            return JsonBookFaceReader.readBookFace(dataFilePath);
+        }
+
+        RecordTable<JsonAdaptedPerson> persons = new RecordTable<>();
+        RecordTable<JsonAdaptedBook> books = new RecordTable<>();
+        JsonBookFaceReader.readRecords(dataFilePath, new JsonBookFaceReader.RecordHandler() {
+            @Override
+            public void handlePerson(JsonAdaptedPerson person, int index) throws IllegalValueException {
+                if (person == null) {
+                    throw new IllegalValueException(JsonAdaptedPerson.INVALID_PERSON_FORMAT);
+                }
+                if (!persons.add(person.getName(), person)) {
+                    throw new IllegalValueException(JsonSerializableBookFace.MESSAGE_DUPLICATE_PERSON);
+                }
+            }
+
+            @Override
+            public void handleBook(JsonAdaptedBook book, int index) throws IllegalValueException {
+                if (book == null) {
+                    throw new IllegalValueException(JsonAdaptedBook.INVALID_BOOK_FORMAT);
+                }
+                if (!books.add(book.getIdentityKey(), book)) {
+                    throw new IllegalValueException(JsonSerializableBookFace.MESSAGE_DUPLICATE_BOOK);
+                }
+            }
+        });
+
+        try {
+            List<String> lines = Files.readAllLines(journalFilePath, StandardCharsets.UTF_8);
+            int entryCount = replayJournal(lines, persons, books);
+            if (isOwnJournal) {
+                synchronized (this) {
+                    journalEntryCount = entryCount;
+                }
+            }
+            return Optional.of(new JsonSerializableBookFace(persons.values(), books.values()).toModelType());
+        } catch (IOException ioe) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + dataFilePath + " or " + journalFilePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Applies the journal entries in {@code lines} to {@code persons} and {@code books} in order, and returns the
+     * number of entries applied. An unreadable last line is the remains of an append that was cut short, and is
+     * skipped.
+     *
+     * @throws IllegalValueException if any other line is not a valid journal entry.
+     */
+    private static int replayJournal(List<String> lines, RecordTable<JsonAdaptedPerson> persons,
+            RecordTable<JsonAdaptedBook> books) throws IllegalValueException {
+        int entryCount = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+
+            JsonAdaptedJournalEntry entry;
+            try {
+                entry = JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class);
+            } catch (IOException ioe) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Ignoring incomplete last journal entry: " + ioe.getMessage());
+                    break;
+                }
+                throw new IllegalValueException(JsonAdaptedJournalEntry.INVALID_ENTRY_FORMAT);
+            }
+            entry.applyTo(persons, books);
+            entryCount++;
+        }
+        return entryCount;
+    }
+
+    @Override
+    public void saveBookFace(ReadOnlyBookFace bookFace) throws IOException {
+        prepareSaveBookFace(bookFace).write();
+    }
+
+    /**
+     * Similar to {@link #saveBookFace(ReadOnlyBookFace)}, but writes the whole file if {@code filePath} is not the
+     * file whose journal is kept by this storage.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveBookFace(ReadOnlyBookFace bookFace, Path filePath) throws IOException {
+        requireNonNull(bookFace);
+        requireNonNull(filePath);
+
+        if (filePath.equals(this.filePath)) {
+            saveBookFace(bookFace);
+            return;
+        }
+
+        writeSnapshot(bookFace, filePath);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The changes are captured as journal entries as they are made, so this only hands them over to the write. If
+     * the whole file has to be written instead, the write encodes {@code bookFace} as it is when the write runs.
+     */
+    @Override
+    public synchronized BookFaceWrite prepareSaveBookFace(ReadOnlyBookFace bookFace) {
+        requireNonNull(bookFace);
+
+        if (bookFace != trackedBookFace) {
+            track(bookFace);
+        }
+
+        // appending is only safe once the latest prepared snapshot is written, as it could be skipped for the append
+        boolean isSnapshotUnwritten = writtenSnapshotNumber < preparedSnapshotCount;
+        int journalSize = journalEntryCount + unwrittenEntries.size() + pendingEntries.size();
+        if (isSnapshotRequired || isSnapshotUnwritten || journalSize >= compactionThreshold) {
+            isSnapshotRequired = false;
+            pendingEntries.clear();
+            unwrittenEntries.clear();
+            long snapshotNumber = ++preparedSnapshotCount;
+            // changes made before the write runs are also journaled, which has no effect when replayed onto it
+            return () -> encodeCompaction(bookFace, snapshotNumber);
+        }
+
+        unwrittenEntries.addAll(pendingEntries);
+        pendingEntries.clear();
+        // the entries are already captured, so nothing is read from bookFace
+        return () -> this::appendUnwrittenEntries;
+    }
+
+    /**
+     * Returns the write of {@code bookFace} to the data file, which discards the journal.
+     */
+    private BookFaceWrite.FileWrite encodeCompaction(ReadOnlyBookFace bookFace, long snapshotNumber)
+            throws IOException {
+        BookFaceWrite.FileWrite snapshotWrite = encodeSnapshot(bookFace, filePath);
+        return () -> {
+            snapshotWrite.write();
+            synchronized (this) {
+                journalEntryCount = 0;
+                writtenSnapshotNumber = Math.max(writtenSnapshotNumber, snapshotNumber);
+            }
+        };
+    }
+
+    /**
+     * Writes {@code bookFace} to {@code filePath} and deletes its journal.
+     */
+    private void writeSnapshot(ReadOnlyBookFace bookFace, Path filePath) throws IOException {
+        encodeSnapshot(bookFace, filePath).write();
+    }
+
+    /**
+     * Returns the write of {@code bookFace} to {@code filePath}, with the data already encoded, which deletes its
+     * journal. If the journal cannot be deleted, replaying it onto the new file has no effect, as every entry holds
+     * the latest state of its record.
+     */
+    private BookFaceWrite.FileWrite encodeSnapshot(ReadOnlyBookFace bookFace, Path filePath) throws IOException {
+        byte[] data = JsonBookFaceWriter.toBytes(bookFace, isCompact);
+        return () -> {
+            FileUtil.createParentDirsOfFile(filePath);
+            FileUtil.writeToFileKeepingBackup(filePath, out -> out.write(data));
+            Files.deleteIfExists(getJournalFilePath(filePath));
+        };
+    }
+
+    /**
+     * Appends the changes captured by all prepared saves to the journal. A save skipped in favour of a later one
+     * leaves its changes to be appended by the later save.
+     */
+    private void appendUnwrittenEntries() throws IOException {
+        List<JsonAdaptedJournalEntry> entries;
+        synchronized (this) {
+            entries = new ArrayList<>(unwrittenEntries);
+            unwrittenEntries.clear();
+        }
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        try {
+            StringBuilder lines = new StringBuilder();
+            for (JsonAdaptedJournalEntry entry : entries) {
+                lines.append(JsonUtil.toJsonLine(entry)).append(System.lineSeparator());
+            }
+            FileUtil.createParentDirsOfFile(filePath);
+            FileUtil.appendToFile(getJournalFilePath(filePath), lines.toString());
+        } catch (IOException ioe) {
+            // the journal may now end part-way through the entries, so start afresh on the next save
+            synchronized (this) {
+                isSnapshotRequired = true;
+            }
+            throw ioe;
+        }
+
+        synchronized (this) {
+            journalEntryCount += entries.size();
+        }
+    }
+
+    /**
+     * Starts recording the changes made to {@code bookFace}, and stops recording changes to the previously tracked
+     * BookFace. The next save writes the whole file, as earlier changes to {@code bookFace} were not recorded.
+     */
+    private void track(ReadOnlyBookFace bookFace) {
+        if (trackedBookFace != null) {
+            trackedBookFace.getPersonList().removeListener(personListener);
+            trackedBookFace.getBookList().removeListener(bookListener);
+        }
+        trackedBookFace = bookFace;
+        bookFace.getPersonList().addListener(personListener);
+        bookFace.getBookList().addListener(bookListener);
+        pendingEntries.clear();
+        isSnapshotRequired = true;
+    }
+
+    /**
+     * Records each element replaced, added or removed by {@code change} as a journal entry. Changes to more than one
+     * element at a time, such as clearing the list, are not recorded and the next save writes the whole file.
+     */
+    private synchronized <T> void recordChange(ListChangeListener.Change<? extends T> change, Function<T, String> keyOf,
+            PutEntryFactory<T> putEntryOf, Function<String, JsonAdaptedJournalEntry> removeEntryOf) {
+        while (change.next()) {
+            if (change.wasPermutated() || isSnapshotRequired) {
+                continue;
+            }
+
+            List<? extends T> removed = change.getRemoved();
+            List<? extends T> added = change.getAddedSubList();
+            if (removed.size() > 1 || added.size() > 1) {
+                isSnapshotRequired = true;
+                pendingEntries.clear();
+                continue;
+            }
+
+            String removedKey = removed.isEmpty() ? null : keyOf.apply(removed.get(0));
+            if (added.isEmpty()) {
+                pendingEntries.add(removeEntryOf.apply(removedKey));
+                continue;
+            }
+
+            T addedElement = added.get(0);
+            String addedKey = keyOf.apply(addedElement);
+            pendingEntries.add(putEntryOf.create(addedElement, addedKey.equals(removedKey) ? null : removedKey));
+        }
+    }
+
+    /**
+     * Creates an entry putting an element in place of the element with the given key, which may be null.
+     */
+    @FunctionalInterface
+    private interface PutEntryFactory<T> {
+        JsonAdaptedJournalEntry create(T element, String replacedKey);
+    }
+}
@@ -2,10 +2,13 @@ package bookface.storage;
 
 import static bookface.commons.util.Date.DATE_FORMAT;
 
+import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.Locale;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import bookface.commons.exceptions.IllegalValueException;
@@ -28,8 +31,11 @@ class JsonAdaptedBook {
     private final String title;
     private final String author;
 
+    // left out of the rows of the book table in version 2 data files, where loans are stored separately
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private final String returnDate;
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private final Boolean isLoaned;
 
     /**
@@ -61,6 +67,50 @@ class JsonAdaptedBook {
         }
     }
 
+    /**
+     * Returns a key that is equal for two adapted books exactly when {@code Book#equals(Object)} would consider the
+     * books they represent to be the same book.
+     */
+    String getIdentityKey() {
+        return identityKeyOf(title, author);
+    }
+
+    /**
+     * Returns the key that {@link #getIdentityKey()} would return for {@code book}.
+     */
+    static String identityKeyOf(Book book) {
+        return identityKeyOf(book.getTitle().bookTitle, book.getAuthor().bookAuthor);
+    }
+
+    private static String identityKeyOf(String title, String author) {
+        // titles are compared ignoring case, and neither field can contain a line break
+        return (title == null ? null : title.toLowerCase(Locale.ROOT)) + "\n" + author;
+    }
+
+    boolean isLoaned() {
+        return Boolean.TRUE.equals(isLoaned);
+    }
+
+    String getReturnDate() {
+        return returnDate;
+    }
+
+    /**
+     * Converts {@code book} without its loan status, as stored in the book table of a version 2 data file.
+     */
+    static JsonAdaptedBook toBookRow(Book book) {
+        return new JsonAdaptedBook(book.getTitle().bookTitle, book.getAuthor().bookAuthor, null, null);
+    }
+
+    /**
+     * Returns this book loaned until {@code returnDate}, or not loaned if {@code returnDate} is null.
+     */
+    JsonAdaptedBook withReturnDate(String returnDate) {
+        return returnDate == null
+                ? new JsonAdaptedBook(title, author, "", false)
+                : new JsonAdaptedBook(title, author, returnDate, true);
+    }
+
     /**
      * Converts this Jackson-friendly adapted book object into the model's {@code Book} object.
      *
@@ -103,7 +153,8 @@ class JsonAdaptedBook {
 
         if (isLoaned) {
             try {
-                final Date modelDate = DATE_FORMAT.parse(returnDate);
+                // books are converted on several threads at once, and a SimpleDateFormat cannot be shared by them
+                final Date modelDate = ((DateFormat) DATE_FORMAT.clone()).parse(returnDate);
                 if (returnDate.length() != 10) {
                     throw new ParseException("A loaned Book's returnDate field does not have exactly 10 characters!");
                 }
@@ -0,0 +1,121 @@
+package bookface.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import bookface.commons.exceptions.IllegalValueException;
+import bookface.model.book.Book;
+import bookface.model.person.Person;
+
+/**
+ * Jackson-friendly record of a change to a single person or book in BookFace, as written to a journal.
+ * A change either puts the current state of a record, optionally in place of a record with a different key, or
+ * removes a record.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String INVALID_ENTRY_FORMAT = "Invalid format for a journal entry detected!";
+
+    private static final String TYPE_PERSON = "person";
+    private static final String TYPE_BOOK = "book";
+    private static final String OPERATION_PUT = "put";
+    private static final String OPERATION_REMOVE = "remove";
+
+    private final String type;
+    private final String operation;
+    private final String key;
+    private final String replacedKey;
+    private final JsonAdaptedPerson person;
+    private final JsonAdaptedBook book;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("type") String type, @JsonProperty("operation") String operation,
+            @JsonProperty("key") String key, @JsonProperty("replacedKey") String replacedKey,
+            @JsonProperty("person") JsonAdaptedPerson person, @JsonProperty("book") JsonAdaptedBook book) {
+        this.type = type;
+        this.operation = operation;
+        this.key = key;
+        this.replacedKey = replacedKey;
+        this.person = person;
+        this.book = book;
+    }
+
+    /**
+     * Returns an entry that puts the current state of {@code person}, in place of the person named
+     * {@code replacedName} if it is not null.
+     */
+    static JsonAdaptedJournalEntry putPerson(Person person, String replacedName) {
+        JsonAdaptedPerson adaptedPerson = new JsonAdaptedPerson(person);
+        return new JsonAdaptedJournalEntry(TYPE_PERSON, OPERATION_PUT, adaptedPerson.getName(), replacedName,
+                adaptedPerson, null);
+    }
+
+    /**
+     * Returns an entry that removes the person named {@code name}.
+     */
+    static JsonAdaptedJournalEntry removePerson(String name) {
+        return new JsonAdaptedJournalEntry(TYPE_PERSON, OPERATION_REMOVE, name, null, null, null);
+    }
+
+    /**
+     * Returns an entry that puts the current state of {@code book}, in place of the book with the identity key
+     * {@code replacedKey} if it is not null.
+     */
+    static JsonAdaptedJournalEntry putBook(Book book, String replacedKey) {
+        JsonAdaptedBook adaptedBook = new JsonAdaptedBook(book);
+        return new JsonAdaptedJournalEntry(TYPE_BOOK, OPERATION_PUT, adaptedBook.getIdentityKey(), replacedKey,
+                null, adaptedBook);
+    }
+
+    /**
+     * Returns an entry that removes the book with the identity key {@code key}.
+     */
+    static JsonAdaptedJournalEntry removeBook(String key) {
+        return new JsonAdaptedJournalEntry(TYPE_BOOK, OPERATION_REMOVE, key, null, null, null);
+    }
+
+    /**
+     * Applies this change to the persons and unloaned books of a snapshot. Loaned books are stored with the persons
+     * they are loaned to, so putting a loaned book only removes it from {@code books}.
+     *
+     * @throws IllegalValueException if this entry is not in the expected format.
+     */
+    void applyTo(RecordTable<JsonAdaptedPerson> persons, RecordTable<JsonAdaptedBook> books)
+            throws IllegalValueException {
+        if (key == null) {
+            throw new IllegalValueException(INVALID_ENTRY_FORMAT);
+        }
+        boolean isPut = OPERATION_PUT.equals(operation);
+        if (!isPut && !OPERATION_REMOVE.equals(operation)) {
+            throw new IllegalValueException(INVALID_ENTRY_FORMAT);
+        }
+
+        if (TYPE_PERSON.equals(type)) {
+            if (!isPut) {
+                persons.remove(key);
+            } else if (person != null) {
+                persons.put(key, replacedKey, person);
+            } else {
+                throw new IllegalValueException(INVALID_ENTRY_FORMAT);
+            }
+        } else if (TYPE_BOOK.equals(type)) {
+            if (!isPut) {
+                books.remove(key);
+            } else if (book == null) {
+                throw new IllegalValueException(INVALID_ENTRY_FORMAT);
+            } else if (book.isLoaned()) {
+                books.remove(key);
+                if (replacedKey != null) {
+                    books.remove(replacedKey);
+                }
+            } else {
+                books.put(key, replacedKey, book);
+            }
+        } else {
+            throw new IllegalValueException(INVALID_ENTRY_FORMAT);
+        }
+    }
+}
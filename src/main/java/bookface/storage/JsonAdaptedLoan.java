@@ -0,0 +1,83 @@
+package bookface.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import bookface.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly version of a loan in the loan table of a version 2 data file. The book and person on loan are
+ * referred to by their positions in the book and person tables.
+ */
+class JsonAdaptedLoan {
+
+    public static final String INVALID_LOAN_FORMAT = "Invalid format for a loan detected!";
+    public static final String MISSING_LOAN_FIELD_MESSAGE_FORMAT = "Loan's %s field is missing!";
+    public static final String MESSAGE_INVALID_REFERENCE = "A loan refers to a %s that does not exist.";
+
+    private final Integer bookId;
+    private final Integer personId;
+    private final String returnDate;
+
+    /**
+     * Constructs a {@code JsonAdaptedLoan} with the given loan details.
+     */
+    @JsonCreator
+    public JsonAdaptedLoan(@JsonProperty("bookId") Integer bookId, @JsonProperty("personId") Integer personId,
+            @JsonProperty("returnDate") String returnDate) {
+        this.bookId = bookId;
+        this.personId = personId;
+        this.returnDate = returnDate;
+    }
+
+    /**
+     * Returns the position of the loaned book in the book table.
+     *
+     * @throws IllegalValueException if the position is missing or negative.
+     */
+    int getBookId() throws IllegalValueException {
+        return checkId(bookId, Integer.MAX_VALUE, "book");
+    }
+
+    /**
+     * Returns the position of the loanee in the person table.
+     *
+     * @throws IllegalValueException if the position is missing or negative.
+     */
+    int getPersonId() throws IllegalValueException {
+        return checkId(personId, Integer.MAX_VALUE, "person");
+    }
+
+    /**
+     * Checks that the loaned book and the loanee are within a book table holding {@code bookCount} books and a
+     * person table holding {@code personCount} persons.
+     *
+     * @throws IllegalValueException if either position is missing or outside its table.
+     */
+    void checkReferences(int bookCount, int personCount) throws IllegalValueException {
+        checkId(bookId, bookCount, "book");
+        checkId(personId, personCount, "person");
+    }
+
+    /**
+     * Returns the return date, which is checked when the loaned book is converted into a model {@code Book}.
+     *
+     * @throws IllegalValueException if the return date is missing.
+     */
+    String getReturnDate() throws IllegalValueException {
+        if (returnDate == null) {
+            throw new IllegalValueException(String.format(MISSING_LOAN_FIELD_MESSAGE_FORMAT, "returnDate"));
+        }
+        return returnDate;
+    }
+
+    private static int checkId(Integer id, int tableSize, String recordType) throws IllegalValueException {
+        if (id == null) {
+            throw new IllegalValueException(String.format(MISSING_LOAN_FIELD_MESSAGE_FORMAT, recordType + "Id"));
+        }
+        if (id < 0 || id >= tableSize) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_REFERENCE, recordType));
+        }
+        return id;
+    }
+}
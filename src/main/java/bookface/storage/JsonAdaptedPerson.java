@@ -7,6 +7,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
@@ -30,7 +31,9 @@ class JsonAdaptedPerson {
     private final String phone;
     private final String email;
 
+    // left out of the rows of the person table in version 2 data files, where loans are stored separately
     @JsonManagedReference
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
     private final List<JsonAdaptedBook> loanedBooks = new ArrayList<>();
     private final List<JsonAdaptedTag> tagged = new ArrayList<>();
 
@@ -68,6 +71,35 @@ class JsonAdaptedPerson {
                 .collect(Collectors.toList()));
     }
 
+    /**
+     * Converts {@code source} without the books loaned to it, as stored in the person table of a version 2 data file.
+     */
+    static JsonAdaptedPerson toPersonRow(Person source) {
+        List<JsonAdaptedTag> tagged = source.getTags().stream()
+                .map(JsonAdaptedTag::new)
+                .collect(Collectors.toList());
+        return new JsonAdaptedPerson(source.getName().fullName, source.getPhone().value, source.getEmail().value,
+                List.of(), tagged);
+    }
+
+    /**
+     * Returns the name of this person, which identifies the person within BookFace.
+     */
+    String getName() {
+        return name;
+    }
+
+    List<JsonAdaptedBook> getLoanedBooks() {
+        return loanedBooks;
+    }
+
+    /**
+     * Returns this person with {@code loanedBooks} in place of the books loaned to this person.
+     */
+    JsonAdaptedPerson withLoanedBooks(List<JsonAdaptedBook> loanedBooks) {
+        return new JsonAdaptedPerson(name, phone, email, loanedBooks, tagged);
+    }
+
     /**
      * Converts this Jackson-friendly adapted person object into the model's {@code Person} object.
      *
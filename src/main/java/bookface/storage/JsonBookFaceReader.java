@@ -0,0 +1,242 @@
+package bookface.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import bookface.commons.core.LogsCenter;
+import bookface.commons.exceptions.DataConversionException;
+import bookface.commons.exceptions.IllegalValueException;
+import bookface.commons.util.JsonUtil;
+import bookface.model.ReadOnlyBookFace;
+
+/**
+ * Reads BookFace data files one record at a time with Jackson's streaming API, so that neither the file contents
+ * nor a {@code JsonSerializableBookFace} of the whole file is held in memory. Only the loans and loaned books of a
+ * version 2 data file are held until the persons they belong to are read.
+ */
+class JsonBookFaceReader {
+
+    static final String FORMAT_VERSION_FIELD = "formatVersion";
+    static final String PERSONS_FIELD = "persons";
+    static final String BOOKS_FIELD = "books";
+    static final String LOANS_FIELD = "loans";
+
+    /** Version of the data file format written by {@link JsonBookFaceWriter}. */
+    static final int FORMAT_VERSION = 2;
+
+    static final String MESSAGE_UNSUPPORTED_VERSION = "Data file format version %d is not supported.";
+    static final String MESSAGE_BOOK_LOANED_TWICE = "A book is loaned more than once.";
+    static final String MESSAGE_TABLES_OUT_OF_ORDER = "Expected the tables of a data file in the order %s.";
+
+    /** Order of the tables in a version 2 data file, in which each table refers only to the tables before it. */
+    static final List<String> TABLE_ORDER = List.of(LOANS_FIELD, BOOKS_FIELD, PERSONS_FIELD);
+
+    private static final Logger logger = LogsCenter.getLogger(JsonBookFaceReader.class);
+
+    /**
+     * Handles the records of a data file in the order they are read, each person along with the books loaned to it.
+     * Each record comes with its {@code index}, its position from 0 among the records of its type in the file.
+     */
+    interface RecordHandler {
+        void handlePerson(JsonAdaptedPerson person, int index) throws IllegalValueException;
+
+        void handleBook(JsonAdaptedBook book, int index) throws IllegalValueException;
+    }
+
+    /**
+     * Returns the BookFace in {@code filePath}, converting the records into model objects in parallel as they are
+     * read.
+     * Returns {@code Optional.empty()} if the file is not found.
+     *
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    static Optional<ReadOnlyBookFace> readBookFace(Path filePath) throws DataConversionException {
+        ParallelRecordDecoder decoder = new ParallelRecordDecoder();
+        if (!readRecords(filePath, decoder)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(decoder.finish());
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Passes each person in {@code filePath} to {@code handler} with the books loaned to it, and each book that is
+     * not on loan, as they are read. Returns false if the file is not found.
+     *
+     * Version 1 files store records in that shape. Version 2 files store flat tables of loans, books and persons in
+     * that order, which are joined as they are read.
+     *
+     * @throws DataConversionException if the file is not in the correct format, or {@code handler} rejects a record.
+     */
+    static boolean readRecords(Path filePath, RecordHandler handler) throws DataConversionException {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return false;
+        }
+
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.FIELD_NAME && FORMAT_VERSION_FIELD.equals(parser.getCurrentName())) {
+                int formatVersion = readFormatVersionValue(parser);
+                if (formatVersion != FORMAT_VERSION) {
+                    throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, formatVersion));
+                }
+                readTables(parser, handler);
+            } else {
+                readVersion1Records(parser, token, handler);
+            }
+            expect(parser, parser.getCurrentToken(), JsonToken.END_OBJECT);
+            return true;
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Returns the format version of the data file {@code filePath}, which is 1 for files written before versions
+     * were recorded.
+     */
+    static int readFormatVersion(Path filePath) throws IOException {
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            if (parser.nextToken() == JsonToken.FIELD_NAME && FORMAT_VERSION_FIELD.equals(parser.getCurrentName())) {
+                return readFormatVersionValue(parser);
+            }
+            return 1;
+        }
+    }
+
+    private static int readFormatVersionValue(JsonParser parser) throws IOException {
+        expect(parser, parser.nextToken(), JsonToken.VALUE_NUMBER_INT);
+        return parser.getIntValue();
+    }
+
+    /**
+     * Passes the records of a version 1 data file to {@code handler} as they are read, starting from the field
+     * name {@code token}.
+     */
+    private static void readVersion1Records(JsonParser parser, JsonToken token, RecordHandler handler)
+            throws IOException, IllegalValueException {
+        for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (PERSONS_FIELD.equals(fieldName)) {
+                expect(parser, valueToken, JsonToken.START_ARRAY);
+                for (int index = 0; parser.nextToken() != JsonToken.END_ARRAY; index++) {
+                    handler.handlePerson(parser.readValueAs(JsonAdaptedPerson.class), index);
+                }
+            } else if (BOOKS_FIELD.equals(fieldName)) {
+                expect(parser, valueToken, JsonToken.START_ARRAY);
+                for (int index = 0; parser.nextToken() != JsonToken.END_ARRAY; index++) {
+                    handler.handleBook(parser.readValueAs(JsonAdaptedBook.class), index);
+                }
+            } else if (FORMAT_VERSION_FIELD.equals(fieldName) || LOANS_FIELD.equals(fieldName)) {
+                // version 1 has already been assumed for the records before, so the file cannot be read reliably
+                throw new JsonParseException(parser, "Expected " + FORMAT_VERSION_FIELD + " as the first field of a"
+                        + " data file with " + fieldName);
+            } else {
+                // unknown fields are ignored, as they are when the whole file is read at once
+                parser.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * Reads the tables of a version 2 data file, and passes their records to {@code handler} joined into the
+     * shape of a version 1 data file. As the loans come first, each book that is not on loan is passed on as soon
+     * as it is read, and each person as soon as it is read along with the books loaned to it, so only the loans and
+     * the loaned books are held in memory.
+     */
+    private static void readTables(JsonParser parser, RecordHandler handler)
+            throws IOException, IllegalValueException {
+        Map<Integer, JsonAdaptedLoan> loansByBookId = new HashMap<>();
+        Map<Integer, List<JsonAdaptedBook>> loanedBooksByPersonId = new HashMap<>();
+        int bookCount = 0;
+        int personCount = 0;
+        int nextTableIndex = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            int tableIndex = TABLE_ORDER.indexOf(fieldName);
+            if (tableIndex < 0) {
+                parser.skipChildren();
+                continue;
+            }
+            if (tableIndex < nextTableIndex) {
+                throw new JsonParseException(parser, String.format(MESSAGE_TABLES_OUT_OF_ORDER, TABLE_ORDER));
+            }
+            nextTableIndex = tableIndex + 1;
+            expect(parser, valueToken, JsonToken.START_ARRAY);
+
+            if (LOANS_FIELD.equals(fieldName)) {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    JsonAdaptedLoan loan = parser.readValueAs(JsonAdaptedLoan.class);
+                    if (loan == null) {
+                        throw new IllegalValueException(JsonAdaptedLoan.INVALID_LOAN_FORMAT);
+                    }
+                    loan.getPersonId();
+                    loan.getReturnDate();
+                    if (loansByBookId.putIfAbsent(loan.getBookId(), loan) != null) {
+                        throw new IllegalValueException(MESSAGE_BOOK_LOANED_TWICE);
+                    }
+                }
+            } else if (BOOKS_FIELD.equals(fieldName)) {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    JsonAdaptedBook book = parser.readValueAs(JsonAdaptedBook.class);
+                    int bookId = bookCount++;
+                    JsonAdaptedLoan loan = loansByBookId.get(bookId);
+                    if (loan == null) {
+                        handler.handleBook(book == null ? null : book.withReturnDate(null), bookId);
+                    } else if (book == null) {
+                        throw new IllegalValueException(JsonAdaptedBook.INVALID_BOOK_FORMAT);
+                    } else {
+                        loanedBooksByPersonId.computeIfAbsent(loan.getPersonId(), id -> new ArrayList<>())
+                                .add(book.withReturnDate(loan.getReturnDate()));
+                    }
+                }
+            } else {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    JsonAdaptedPerson person = parser.readValueAs(JsonAdaptedPerson.class);
+                    if (person == null) {
+                        throw new IllegalValueException(JsonAdaptedPerson.INVALID_PERSON_FORMAT);
+                    }
+                    int personId = personCount++;
+                    List<JsonAdaptedBook> booksOfPerson = loanedBooksByPersonId.remove(personId);
+                    handler.handlePerson(person.withLoanedBooks(booksOfPerson == null ? List.of() : booksOfPerson),
+                            personId);
+                }
+            }
+        }
+
+        for (JsonAdaptedLoan loan : loansByBookId.values()) {
+            loan.checkReferences(bookCount, personCount);
+        }
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+}
@@ -5,13 +5,9 @@ import static java.util.Objects.requireNonNull;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
-import java.util.logging.Logger;
 
-import bookface.commons.core.LogsCenter;
 import bookface.commons.exceptions.DataConversionException;
-import bookface.commons.exceptions.IllegalValueException;
 import bookface.commons.util.FileUtil;
-import bookface.commons.util.JsonUtil;
 import bookface.model.ReadOnlyBookFace;
 
 /**
@@ -19,21 +15,37 @@ import bookface.model.ReadOnlyBookFace;
  */
 public class JsonBookFaceStorage implements BookFaceStorage {
 
-    private static final Logger logger = LogsCenter.getLogger(JsonBookFaceStorage.class);
-
     private final Path filePath;
+    private final boolean isCompact;
 
     public JsonBookFaceStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code JsonBookFaceStorage} that writes json files without indentation or line breaks if
+     * {@code isCompact} is true.
+     */
+    public JsonBookFaceStorage(Path filePath, boolean isCompact) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
     }
 
     public Path getBookFaceFilePath() {
         return filePath;
     }
 
+    /**
+     * {@inheritDoc}
+     * A data file written in an older format is rewritten in the current format once it is read.
+     */
     @Override
     public Optional<ReadOnlyBookFace> readBookFace() throws DataConversionException {
-        return readBookFace(filePath);
+        Optional<ReadOnlyBookFace> bookFace = readBookFace(filePath);
+        if (bookFace.isPresent()) {
+            DataFileMigration.migrateIfOutdated(filePath, () -> saveBookFace(bookFace.get()));
+        }
+        return bookFace;
     }
 
     /**
@@ -44,19 +56,7 @@ public class JsonBookFaceStorage implements BookFaceStorage {
      */
     public Optional<ReadOnlyBookFace> readBookFace(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
-
-        Optional<JsonSerializableBookFace> jsonBookFace = JsonUtil.readJsonFile(
-                filePath, JsonSerializableBookFace.class);
-        if (jsonBookFace.isEmpty()) {
-            return Optional.empty();
-        }
-
-        try {
-            return Optional.of(jsonBookFace.get().toModelType());
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
-            throw new DataConversionException(ive);
-        }
+        return DataFileRecovery.readLatestGoodVersion(filePath, JsonBookFaceReader::readBookFace);
     }
 
     @Override
@@ -73,8 +73,25 @@ public class JsonBookFaceStorage implements BookFaceStorage {
         requireNonNull(bookFace);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableBookFace(bookFace), filePath);
+        encodeBookFace(bookFace, filePath).write();
+    }
+
+    @Override
+    public BookFaceWrite prepareSaveBookFace(ReadOnlyBookFace bookFace) {
+        requireNonNull(bookFace);
+
+        return () -> encodeBookFace(bookFace, filePath);
+    }
+
+    /**
+     * Returns the write of {@code bookFace} to {@code filePath}, with the data already encoded.
+     */
+    private BookFaceWrite.FileWrite encodeBookFace(ReadOnlyBookFace bookFace, Path filePath) throws IOException {
+        byte[] data = JsonBookFaceWriter.toBytes(bookFace, isCompact);
+        return () -> {
+            FileUtil.createParentDirsOfFile(filePath);
+            FileUtil.writeToFileKeepingBackup(filePath, out -> out.write(data));
+        };
     }
 
 }
@@ -0,0 +1,89 @@
+package bookface.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import bookface.commons.util.JsonUtil;
+import bookface.model.ReadOnlyBookFace;
+import bookface.model.book.Book;
+import bookface.model.person.Person;
+
+/**
+ * Writes BookFace data files one record at a time with Jackson's streaming API, so that the file contents are never
+ * held in memory as a tree of json nodes. Each record is converted just before it is written, and only the loans
+ * are gathered before the first one is written.
+ *
+ * Data files are written in format version 2, which stores each loan as the positions of its book and person in
+ * the book and person tables with the return date, followed by every book once in a flat book table, and the
+ * persons in a flat person table. The loans come first so that the reader can join them in a single pass.
+ */
+class JsonBookFaceWriter {
+
+    /**
+     * Returns the data file of {@code bookFace} as it would be written by {@link #write}.
+     */
+    static byte[] toBytes(ReadOnlyBookFace bookFace, boolean isCompact) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        write(bookFace, out, isCompact);
+        return out.toByteArray();
+    }
+
+    /**
+     * Writes {@code bookFace} to {@code out} in the format read by {@link JsonBookFaceReader}. {@code bookFace} must
+     * not be changed while it is written.
+     *
+     * @param isCompact whether the data is written without indentation or line breaks.
+     * @throws IllegalStateException if the loans of the books and of the persons in {@code bookFace} disagree.
+     */
+    static void write(ReadOnlyBookFace bookFace, OutputStream out, boolean isCompact) throws IOException {
+        LoanConsistency.check(bookFace);
+        // the loaned books come first in the book table, in the order the persons they are loaned to are written
+        List<Book> loanedBooks = new ArrayList<>();
+        List<JsonAdaptedLoan> loans = new ArrayList<>();
+        List<Person> persons = bookFace.getPersonList();
+        for (int personId = 0; personId < persons.size(); personId++) {
+            for (Book book : persons.get(personId).getLoanedBooksSet()) {
+                String returnDate = new JsonAdaptedBook(book).getReturnDate();
+                loans.add(new JsonAdaptedLoan(loanedBooks.size(), personId, returnDate));
+                loanedBooks.add(book);
+            }
+        }
+
+        try (JsonGenerator generator = JsonUtil.createGenerator(out, isCompact)) {
+            generator.writeStartObject();
+            generator.writeNumberField(JsonBookFaceReader.FORMAT_VERSION_FIELD, JsonBookFaceReader.FORMAT_VERSION);
+
+            generator.writeFieldName(JsonBookFaceReader.LOANS_FIELD);
+            generator.writeStartArray();
+            for (JsonAdaptedLoan loan : loans) {
+                generator.writeObject(loan);
+            }
+            generator.writeEndArray();
+
+            generator.writeFieldName(JsonBookFaceReader.BOOKS_FIELD);
+            generator.writeStartArray();
+            for (Book book : loanedBooks) {
+                generator.writeObject(JsonAdaptedBook.toBookRow(book));
+            }
+            for (Book book : bookFace.getBookList()) {
+                if (!book.isLoaned()) {
+                    generator.writeObject(JsonAdaptedBook.toBookRow(book));
+                }
+            }
+            generator.writeEndArray();
+
+            generator.writeFieldName(JsonBookFaceReader.PERSONS_FIELD);
+            generator.writeStartArray();
+            for (Person person : persons) {
+                generator.writeObject(JsonAdaptedPerson.toPersonRow(person));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+}
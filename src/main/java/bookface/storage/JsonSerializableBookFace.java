@@ -53,51 +53,97 @@ class JsonSerializableBookFace {
                 .map(JsonAdaptedBook::new).collect(Collectors.toList()));
     }
 
+    List<JsonAdaptedPerson> getPersons() {
+        return persons;
+    }
+
+    List<JsonAdaptedBook> getBooks() {
+        return books;
+    }
+
     /**
-     * Converts bookFace into the model's {@code BookFace} object.
+     * Converts bookFace into the model's {@code BookFace} object. The persons and books are converted in parallel
+     * and added in order, as by {@link ParallelRecordDecoder}.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public BookFace toModelType() throws IllegalValueException {
-        BookFace bookFace = new BookFace();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            if (jsonAdaptedPerson == null) {
-                throw new IllegalValueException(JsonAdaptedPerson.INVALID_PERSON_FORMAT);
-            }
-            Person person = jsonAdaptedPerson.toModelType();
-            if (bookFace.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            bookFace.addPerson(person);
-            if (person.hasBooksOnLoan()) {
-                Set<Book> loanedBooks = person.getLoanedBooksSet();
-                for (Book book : loanedBooks) {
-                    if (book == null) {
-                        throw new IllegalValueException(JsonAdaptedBook.INVALID_BOOK_FORMAT);
-                    }
-                    Optional<Date> returnDate = book.getReturnDate();
-                    if (returnDate.isEmpty()) {
-                        throw new IllegalValueException(JsonAdaptedBook.INVALID_BOOK_FORMAT);
-                    }
-                    if (bookFace.hasBook(book)) {
-                        throw new IllegalValueException(MESSAGE_DUPLICATE_BOOK);
-                    }
-                    book.loanTo(person, returnDate.get());
-                    bookFace.addBook(book);
+        ParallelRecordDecoder decoder = new ParallelRecordDecoder();
+        for (int i = 0; i < persons.size(); i++) {
+            decoder.handlePerson(persons.get(i), i);
+        }
+        for (int i = 0; i < books.size(); i++) {
+            decoder.handleBook(books.get(i), i);
+        }
+        return decoder.finish();
+    }
+
+    /**
+     * Converts {@code jsonAdaptedPerson} into a {@code Person}, along with the books loaned to that person.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static Person toPerson(JsonAdaptedPerson jsonAdaptedPerson) throws IllegalValueException {
+        if (jsonAdaptedPerson == null) {
+            throw new IllegalValueException(JsonAdaptedPerson.INVALID_PERSON_FORMAT);
+        }
+        return jsonAdaptedPerson.toModelType();
+    }
+
+    /**
+     * Converts {@code jsonAdaptedBook} into a {@code Book}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static Book toBook(JsonAdaptedBook jsonAdaptedBook) throws IllegalValueException {
+        if (jsonAdaptedBook == null) {
+            throw new IllegalValueException(JsonAdaptedBook.INVALID_BOOK_FORMAT);
+        }
+        return jsonAdaptedBook.toModelType();
+    }
+
+    /**
+     * Adds {@code person} to {@code bookFace}, along with the books loaned to that person, checking the same data
+     * constraints whatever format {@code person} was read from.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static void addPerson(BookFace bookFace, Person person) throws IllegalValueException {
+        if (bookFace.hasPerson(person)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+        bookFace.addPerson(person);
+        if (person.hasBooksOnLoan()) {
+            Set<Book> loanedBooks = person.getLoanedBooksSet();
+            for (Book book : loanedBooks) {
+                if (book == null) {
+                    throw new IllegalValueException(JsonAdaptedBook.INVALID_BOOK_FORMAT);
+                }
+                Optional<Date> returnDate = book.getReturnDate();
+                if (returnDate.isEmpty()) {
+                    throw new IllegalValueException(JsonAdaptedBook.INVALID_BOOK_FORMAT);
+                }
+                if (bookFace.hasBook(book)) {
+                    throw new IllegalValueException(MESSAGE_DUPLICATE_BOOK);
                 }
+                book.loanTo(person, returnDate.get());
+                bookFace.addBook(book);
             }
         }
+    }
 
-        for (JsonAdaptedBook jsonAdaptedBook : books) {
-            Book book = jsonAdaptedBook.toModelType();
-            if (bookFace.hasBook(book)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_BOOK);
-            } else if (book.isLoaned() || book.getReturnDateString().isPresent()) {
-                throw new IllegalValueException((MESSAGE_INVALID_LOANED_BOOK));
-            }
-            bookFace.addBook(book);
+    /**
+     * Adds {@code book}, which must not be on loan, to {@code bookFace}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static void addBook(BookFace bookFace, Book book) throws IllegalValueException {
+        if (bookFace.hasBook(book)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_BOOK);
+        } else if (book.isLoaned() || book.getReturnDateString().isPresent()) {
+            throw new IllegalValueException((MESSAGE_INVALID_LOANED_BOOK));
         }
-        return bookFace;
+        bookFace.addBook(book);
     }
 
 }
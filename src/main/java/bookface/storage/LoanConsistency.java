@@ -0,0 +1,60 @@
+package bookface.storage;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import bookface.model.ReadOnlyBookFace;
+import bookface.model.book.Book;
+import bookface.model.person.Person;
+
+/**
+ * Checks that the loans recorded on the books and on the persons of BookFace data agree, before the data is written.
+ * Data files record each loan once, so data that disagrees would be written with made-up return dates or lose loans.
+ */
+class LoanConsistency {
+
+    static final String MESSAGE_NO_RETURN_DATE = "Book %1$s loaned to %2$s is not on loan or has no return date";
+    static final String MESSAGE_NOT_IN_BOOK_LIST = "Book %1$s loaned to %2$s is not in the book list";
+    static final String MESSAGE_NO_LOANEE = "Book %1$s is on loan, but not loaned to any person";
+
+    /**
+     * Checks that every book loaned to a person in {@code bookFace} is on loan with a return date and in the book
+     * list, and that every book on loan in the book list is loaned to a person.
+     *
+     * @throws IllegalStateException if the loans of the books and of the persons disagree.
+     */
+    static void check(ReadOnlyBookFace bookFace) {
+        Set<Book> booksLoanedToPersons = new HashSet<>();
+        for (Person person : bookFace.getPersonList()) {
+            for (Book book : person.getLoanedBooksSet()) {
+                if (!book.isLoaned() || book.getReturnDate().isEmpty()) {
+                    throw new IllegalStateException(String.format(MESSAGE_NO_RETURN_DATE, book, person.getName()));
+                }
+                booksLoanedToPersons.add(book);
+            }
+        }
+
+        Set<Book> loanedBooksInList = new HashSet<>();
+        for (Book book : bookFace.getBookList()) {
+            if (!book.isLoaned()) {
+                continue;
+            }
+            if (!booksLoanedToPersons.contains(book)) {
+                throw new IllegalStateException(String.format(MESSAGE_NO_LOANEE, book));
+            }
+            loanedBooksInList.add(book);
+        }
+
+        if (loanedBooksInList.size() == booksLoanedToPersons.size()) {
+            return;
+        }
+        for (Person person : bookFace.getPersonList()) {
+            for (Book book : person.getLoanedBooksSet()) {
+                if (!loanedBooksInList.contains(book)) {
+                    throw new IllegalStateException(String.format(MESSAGE_NOT_IN_BOOK_LIST, book,
+                            person.getName()));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package bookface.storage;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import bookface.commons.exceptions.IllegalValueException;
+import bookface.model.BookFace;
+import bookface.model.book.Book;
+import bookface.model.person.Person;
+
+/**
+ * Converts the persons and books read from a data file into model objects in parallel, and adds them to a
+ * {@code BookFace} in the order they were read.
+ *
+ * Consecutive persons or consecutive books are gathered into batches, and each batch is converted and validated as a
+ * fork/join task as soon as it is full, while the rest of the file is still being read. The converted records are
+ * added to the {@code BookFace}, which detects duplicates, by the calling thread in file order as soon as the batches
+ * before them have been added, so neither the result nor the error reported for a file with several invalid records
+ * depends on how the tasks were scheduled. At most {@link #MAX_PENDING_BATCHES} batches are held at once, so only a
+ * bounded number of records is held besides the {@code BookFace}.
+ */
+class ParallelRecordDecoder implements JsonBookFaceReader.RecordHandler {
+
+    static final String MESSAGE_INVALID_RECORD = "Invalid %s #%d in the data file: %s";
+
+    /** Number of records converted by one task, enough to outweigh the cost of scheduling it. */
+    static final int BATCH_SIZE = 256;
+
+    /** Number of batches being converted or waiting to be added, enough to keep every worker thread busy. */
+    static final int MAX_PENDING_BATCHES = 2 * ForkJoinPool.getCommonPoolParallelism() + 1;
+
+    private final BookFace bookFace = new BookFace();
+    private final Deque<RecordBatch<?, ?>> pendingBatches = new ArrayDeque<>();
+
+    private PersonBatch personBatch;
+    private BookBatch bookBatch;
+
+    @Override
+    public void handlePerson(JsonAdaptedPerson person, int index) throws IllegalValueException {
+        if (personBatch == null) {
+            forkCurrentBatch();
+            personBatch = new PersonBatch();
+        }
+        if (personBatch.addRecord(person, index + 1)) {
+            forkCurrentBatch();
+        }
+    }
+
+    @Override
+    public void handleBook(JsonAdaptedBook book, int index) throws IllegalValueException {
+        if (bookBatch == null) {
+            forkCurrentBatch();
+            bookBatch = new BookBatch();
+        }
+        if (bookBatch.addRecord(book, index + 1)) {
+            forkCurrentBatch();
+        }
+    }
+
+    /**
+     * Returns a {@code BookFace} holding every record handled so far, in the order they were handled.
+     *
+     * @throws IllegalValueException naming the first record, in the order handled, that violates any data
+     *     constraints.
+     */
+    BookFace finish() throws IllegalValueException {
+        forkCurrentBatch();
+        while (!pendingBatches.isEmpty()) {
+            addOldestBatch();
+        }
+        return bookFace;
+    }
+
+    /**
+     * Starts converting the batch being gathered, if any, and adds the batches that have been converted in order.
+     * If too many batches are pending, waits for the oldest one to be converted.
+     *
+     * @throws IllegalValueException naming the first record, in the order handled, that violates any data
+     *     constraints.
+     */
+    private void forkCurrentBatch() throws IllegalValueException {
+        RecordBatch<?, ?> batch = personBatch != null ? personBatch : bookBatch;
+        personBatch = null;
+        bookBatch = null;
+        if (batch != null) {
+            batch.fork();
+            pendingBatches.add(batch);
+        }
+        while (!pendingBatches.isEmpty()
+                && (pendingBatches.peek().isDone() || pendingBatches.size() > MAX_PENDING_BATCHES)) {
+            addOldestBatch();
+        }
+    }
+
+    private void addOldestBatch() throws IllegalValueException {
+        try {
+            pendingBatches.remove().addTo(bookFace);
+        } catch (IllegalValueException ive) {
+            // the records after an invalid one are never added, so stop converting them
+            pendingBatches.forEach(batch -> batch.cancel(false));
+            pendingBatches.clear();
+            throw ive;
+        }
+    }
+
+    /**
+     * Consecutive records of one type, which are converted into model objects of type {@code M} when forked.
+     */
+    private abstract static class RecordBatch<A, M> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final List<A> records = new ArrayList<>(BATCH_SIZE);
+        private final int[] recordNumbers = new int[BATCH_SIZE];
+
+        private final String recordType;
+        private final List<M> models = new ArrayList<>(BATCH_SIZE);
+
+        /** Why the record after the last converted one could not be converted, if any. */
+        private IllegalValueException failure;
+
+        RecordBatch(String recordType) {
+            this.recordType = recordType;
+        }
+
+        /**
+         * Adds {@code record}, numbered {@code recordNumber} among the records of its type in the file, to the end of
+         * this batch, and returns true if the batch is then full.
+         */
+        boolean addRecord(A record, int recordNumber) {
+            recordNumbers[records.size()] = recordNumber;
+            records.add(record);
+            return records.size() == BATCH_SIZE;
+        }
+
+        abstract M convert(A record) throws IllegalValueException;
+
+        abstract void add(BookFace bookFace, M model) throws IllegalValueException;
+
+        @Override
+        protected void compute() {
+            try {
+                for (A record : records) {
+                    models.add(convert(record));
+                }
+            } catch (IllegalValueException ive) {
+                failure = ive;
+            } finally {
+                // the records are no longer needed once converted, so they are not held until the batch is added
+                records.clear();
+            }
+        }
+
+        /**
+         * Waits for the records to be converted, and adds them to {@code bookFace} in order.
+         */
+        void addTo(BookFace bookFace) throws IllegalValueException {
+            join();
+            for (int i = 0; i < models.size(); i++) {
+                try {
+                    add(bookFace, models.get(i));
+                } catch (IllegalValueException ive) {
+                    throw describe(i, ive);
+                }
+            }
+            if (failure != null) {
+                throw describe(models.size(), failure);
+            }
+        }
+
+        private IllegalValueException describe(int index, IllegalValueException cause) {
+            return new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, recordType,
+                    recordNumbers[index], cause.getMessage()), cause);
+        }
+    }
+
+    private static class PersonBatch extends RecordBatch<JsonAdaptedPerson, Person> {
+        private static final long serialVersionUID = 1L;
+
+        PersonBatch() {
+            super("person");
+        }
+
+        @Override
+        Person convert(JsonAdaptedPerson record) throws IllegalValueException {
+            return JsonSerializableBookFace.toPerson(record);
+        }
+
+        @Override
+        void add(BookFace bookFace, Person person) throws IllegalValueException {
+            JsonSerializableBookFace.addPerson(bookFace, person);
+        }
+    }
+
+    private static class BookBatch extends RecordBatch<JsonAdaptedBook, Book> {
+        private static final long serialVersionUID = 1L;
+
+        BookBatch() {
+            super("book");
+        }
+
+        @Override
+        Book convert(JsonAdaptedBook record) throws IllegalValueException {
+            return JsonSerializableBookFace.toBook(record);
+        }
+
+        @Override
+        void add(BookFace bookFace, Book book) throws IllegalValueException {
+            JsonSerializableBookFace.addBook(bookFace, book);
+        }
+    }
+}
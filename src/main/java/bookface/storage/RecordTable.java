@@ -0,0 +1,52 @@
+package bookface.storage;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An insertion-ordered table of stored records by key, used to replay journaled changes onto a snapshot.
+ * Putting a record under an existing key, or in place of another key, keeps the record's position.
+ */
+class RecordTable<T> {
+
+    private LinkedHashMap<String, T> records = new LinkedHashMap<>();
+
+    /**
+     * Adds {@code record} under {@code key}. Returns false if the table already has a record under {@code key}.
+     */
+    boolean add(String key, T record) {
+        return records.putIfAbsent(key, record) == null;
+    }
+
+    /**
+     * Puts {@code record} under {@code key}, in the position of the record under {@code replacedKey} if that is not
+     * null and present.
+     */
+    void put(String key, String replacedKey, T record) {
+        if (replacedKey == null || replacedKey.equals(key) || !records.containsKey(replacedKey)) {
+            records.put(key, record);
+            return;
+        }
+
+        // LinkedHashMap cannot rename a key in place, but records are only renamed by edits, which are rare
+        LinkedHashMap<String, T> renamedRecords = new LinkedHashMap<>();
+        for (Map.Entry<String, T> entry : records.entrySet()) {
+            if (entry.getKey().equals(replacedKey)) {
+                renamedRecords.put(key, record);
+            } else if (!entry.getKey().equals(key)) {
+                renamedRecords.put(entry.getKey(), entry.getValue());
+            }
+        }
+        records = renamedRecords;
+    }
+
+    void remove(String key) {
+        records.remove(key);
+    }
+
+    List<T> values() {
+        return new ArrayList<>(records.values());
+    }
+}
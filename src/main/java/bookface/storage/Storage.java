@@ -29,4 +29,7 @@ public interface Storage extends BookFaceStorage, UserPrefsStorage {
     @Override
     void saveBookFace(ReadOnlyBookFace bookFace) throws IOException;
 
+    @Override
+    BookFaceWrite prepareSaveBookFace(ReadOnlyBookFace bookFace);
+
 }
@@ -66,7 +66,8 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveBookFace(ReadOnlyBookFace bookFace) throws IOException {
-        saveBookFace(bookFace, bookFaceStorage.getBookFaceFilePath());
+        logger.fine("Attempting to write to data file: " + bookFaceStorage.getBookFaceFilePath());
+        bookFaceStorage.saveBookFace(bookFace);
     }
 
     @Override
@@ -75,4 +76,9 @@ public class StorageManager implements Storage {
         bookFaceStorage.saveBookFace(bookFace, filePath);
     }
 
+    @Override
+    public BookFaceWrite prepareSaveBookFace(ReadOnlyBookFace bookFace) {
+        return bookFaceStorage.prepareSaveBookFace(bookFace);
+    }
+
 }
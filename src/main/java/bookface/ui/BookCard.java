@@ -21,7 +21,7 @@ public class BookCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on BookFace level 4</a>
      */
 
-    public final Book book;
+    private Book book;
 
     @FXML
     private HBox cardPane;
@@ -36,11 +36,25 @@ public class BookCard extends UiPart<Region> {
     @FXML
     private Label returnBy;
 
+    /**
+     * Creates a {@code BookCard} that displays nothing until {@link #setBook(Book, int)} is called.
+     */
+    public BookCard() {
+        super(FXML);
+    }
+
     /**
      * Creates a {@code BookCode} with the given {@code book} and index to display.
      */
     public BookCard(Book book, int displayedIndex) {
-        super(FXML);
+        this();
+        setBook(book, displayedIndex);
+    }
+
+    /**
+     * Displays {@code book} with the given index in place of the book displayed so far, reusing the loaded controls.
+     */
+    public void setBook(Book book, int displayedIndex) {
         this.book = book;
         id.setText(displayedIndex + ". ");
         title.setText(book.getTitle().bookTitle);
@@ -49,6 +63,10 @@ public class BookCard extends UiPart<Region> {
         returnBy.setText(book.getReturnDateString().orElse(""));
     }
 
+    public Book getBook() {
+        return book;
+    }
+
     @Override
     public boolean equals(Object other) {
         // short circuit if same object
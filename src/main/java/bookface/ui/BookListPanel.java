@@ -33,6 +33,9 @@ public class BookListPanel extends UiPart<Region> {
      * Custom {@code ListCell} that displays the graphics of a {@code Book} using a {@code BookCard}.
      */
     class BookListViewCell extends ListCell<Book> {
+        /** The card shown by this cell, which is loaded once and then shows whichever book the cell is reused for. */
+        private BookCard card;
+
         @Override
         protected void updateItem(Book book, boolean empty) {
             super.updateItem(book, empty);
@@ -41,7 +44,11 @@ public class BookListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new BookCard(book, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new BookCard();
+                }
+                card.setBook(book, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
@@ -1,9 +1,9 @@
 package bookface.ui;
 
+import java.util.concurrent.CompletableFuture;
+
 import bookface.logic.Logic;
 import bookface.logic.commands.CommandResult;
-import bookface.logic.commands.exceptions.CommandException;
-import bookface.logic.parser.exceptions.ParseException;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
@@ -33,21 +33,25 @@ public class CommandBox extends UiPart<Region> {
     }
 
     /**
-     * Handles the Enter button pressed event.
+     * Handles the Enter button pressed event. The command box cannot be edited until the command entered has been
+     * executed, and a command entered while another one is being executed is ignored.
      */
     @FXML
     private void handleCommandEntered() {
         String commandText = commandTextField.getText();
-        if (commandText.equals("")) {
+        if (commandText.equals("") || !commandTextField.isEditable()) {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
-        }
+        commandTextField.setEditable(false);
+        commandExecutor.execute(commandText).whenComplete((commandResult, error) -> {
+            commandTextField.setEditable(true);
+            if (error == null) {
+                commandTextField.setText("");
+            } else {
+                setStyleToIndicateCommandFailure();
+            }
+        });
     }
 
     /**
@@ -76,11 +80,12 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Starts executing the command and returns the result, which is completed on the JavaFX application thread,
+         * exceptionally if the command could not be parsed or executed.
          *
          * @see Logic#execute(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        CompletableFuture<CommandResult> execute(String commandText);
     }
 
 }
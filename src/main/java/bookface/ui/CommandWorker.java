@@ -0,0 +1,78 @@
+package bookface.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Runs tasks such as executing commands one at a time, in the order they were submitted, on a background thread, so
+ * that the JavaFX application thread stays free to render and handle input while a long command runs. The result of
+ * each task is handed back through the UI executor, which runs it on the JavaFX application thread.
+ */
+class CommandWorker {
+
+    private static final String THREAD_NAME = "BookFace command worker";
+
+    private final ExecutorService worker;
+    private final Executor uiExecutor;
+
+    /**
+     * Creates a {@code CommandWorker} that completes the results of its tasks on {@code uiExecutor}.
+     */
+    CommandWorker(Executor uiExecutor) {
+        this.uiExecutor = requireNonNull(uiExecutor);
+        worker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME);
+            // the data is saved when the app stops, so an unfinished command must not keep the app running
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Runs {@code task} on the background thread after the tasks submitted before it, and returns its result, which
+     * is completed on the UI executor, exceptionally with the exception thrown by {@code task} if it fails.
+     */
+    <T> CompletableFuture<T> submit(Callable<T> task) {
+        requireNonNull(task);
+        CompletableFuture<T> result = new CompletableFuture<>();
+        worker.execute(() -> {
+            try {
+                T value = task.call();
+                uiExecutor.execute(() -> result.complete(value));
+            } catch (Exception e) {
+                uiExecutor.execute(() -> result.completeExceptionally(e));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Runs {@code task} on the background thread after the tasks submitted before it, and stops the background
+     * thread, which runs no more tasks. Returns once {@code task} has run. The results of the tasks still running are
+     * handed to the UI executor, which may no longer run them.
+     *
+     * @throws InterruptedException if interrupted while waiting for the tasks to run.
+     */
+    void shutDownAfter(Runnable task) throws InterruptedException {
+        requireNonNull(task);
+        Future<?> result = worker.submit(task);
+        worker.shutdown();
+        try {
+            result.get();
+        } catch (ExecutionException e) {
+            // a Runnable can only throw unchecked exceptions
+            Throwable cause = e.getCause();
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw (RuntimeException) cause;
+        }
+    }
+}
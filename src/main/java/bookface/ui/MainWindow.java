@@ -1,13 +1,16 @@
 package bookface.ui;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import bookface.commons.core.GuiSettings;
 import bookface.commons.core.LogsCenter;
+import bookface.commons.util.StringUtil;
 import bookface.logic.Logic;
 import bookface.logic.commands.CommandResult;
 import bookface.logic.commands.exceptions.CommandException;
 import bookface.logic.parser.exceptions.ParseException;
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -29,12 +32,14 @@ public class MainWindow extends UiPart<Stage> {
 
     private final Stage primaryStage;
     private final Logic logic;
+    private final CommandWorker commandWorker = new CommandWorker(Platform::runLater);
 
     // Independent Ui parts residing in this Ui container
     private PersonListPanel personListPanel;
 
     private BookListPanel bookListPanel;
     private ResultDisplay resultDisplay;
+    private StatusBarFooter statusBarFooter;
     private final HelpWindow helpWindow;
 
     @FXML
@@ -115,16 +120,18 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList());
+        personListPanel = new PersonListPanel(UiThreadList.copyOf(logic.getFilteredPersonList(), Platform::runLater));
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
-        bookListPanel = new BookListPanel(logic.getFilteredBookList());
+        bookListPanel = new BookListPanel(UiThreadList.copyOf(logic.getFilteredBookList(), Platform::runLater));
         bookListPanelPlaceholder.getChildren().add(bookListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getBookFaceFilePath());
+        statusBarFooter = new StatusBarFooter(logic.getBookFaceFilePath());
+        statusBarFooter.setStatistics(logic.getStatistics());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
@@ -176,6 +183,15 @@ public class MainWindow extends UiPart<Stage> {
         primaryStage.show();
     }
 
+    /**
+     * Stops running commands, and runs {@code finalTask} once the commands already entered have run.
+     *
+     * @see CommandWorker#shutDownAfter(Runnable)
+     */
+    void stop(Runnable finalTask) throws InterruptedException {
+        commandWorker.shutDownAfter(finalTask);
+    }
+
     /**
      * Closes the application.
      */
@@ -197,29 +213,43 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Executes the command on the command worker and returns the result, which is shown to the user on the JavaFX
+     * application thread before the result is completed.
      *
      * @see Logic#execute(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
-
-            if (commandResult.isShowHelp()) {
-                handleHelp();
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        CompletableFuture<CommandResult> result = commandWorker.submit(() -> logic.execute(commandText));
+        // the worker runs tasks in order, so the statistics are read after the command has been executed
+        commandWorker.submit(logic::getStatistics).thenAccept(statusBarFooter::setStatistics);
+        return result.whenComplete((commandResult, error) -> {
+            if (error == null) {
+                handleCommandResult(commandResult);
+            } else {
+                handleCommandFailure(commandText, error);
             }
+        });
+    }
 
-            if (commandResult.isExit()) {
-                handleExit();
-            }
+    private void handleCommandResult(CommandResult commandResult) {
+        logger.info("Result: " + commandResult.getFeedbackToUser());
+        resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+
+        if (commandResult.isShowHelp()) {
+            handleHelp();
+        }
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
+        if (commandResult.isExit()) {
+            handleExit();
+        }
+    }
+
+    private void handleCommandFailure(String commandText, Throwable error) {
+        if (error instanceof CommandException || error instanceof ParseException) {
             logger.info("Invalid command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+        } else {
+            logger.severe("Unexpected error executing command: " + commandText + StringUtil.getDetails(error));
         }
+        resultDisplay.setFeedbackToUser(error.getMessage());
     }
 }
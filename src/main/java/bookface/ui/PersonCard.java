@@ -1,12 +1,18 @@
 package bookface.ui;
 
-import java.util.Comparator;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
+import bookface.model.book.Book;
 import bookface.model.person.Person;
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
+import javafx.scene.layout.Pane;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
 
@@ -25,7 +31,7 @@ public class PersonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on BookFace level 4</a>
      */
 
-    public final Person person;
+    private Person person;
 
     @FXML
     private HBox cardPane;
@@ -42,21 +48,63 @@ public class PersonCard extends UiPart<Region> {
     @FXML
     private FlowPane tags;
 
+    /**
+     * Creates a {@code PersonCard} that displays nothing until {@link #setPerson(Person, int)} is called.
+     */
+    public PersonCard() {
+        super(FXML);
+    }
+
     /**
      * Creates a {@code PersonCode} with the given {@code Person} and index to display.
      */
     public PersonCard(Person person, int displayedIndex) {
-        super(FXML);
+        this();
+        setPerson(person, displayedIndex);
+    }
+
+    /**
+     * Displays {@code person} with the given index in place of the person displayed so far, reusing the loaded
+     * controls and as many of the book and tag labels as are still needed.
+     */
+    public void setPerson(Person person, int displayedIndex) {
         this.person = person;
         id.setText(displayedIndex + ". ");
         name.setText(person.getName().fullName);
         phone.setText(person.getPhone().value);
         email.setText(person.getEmail().value);
-        person.getLoanedBooksSet().stream()
-                .forEach(book -> books.getChildren().add(newWrappedLabel(book.toString())));
-        person.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
+        setLabelTexts(books, person.getLoanedBooksSet().stream()
+                .map(Book::toString)
+                .collect(Collectors.toList()), () -> newWrappedLabel(""));
+        setLabelTexts(tags, person.getTags().stream()
+                .map(tag -> tag.tagName)
+                .sorted()
+                .collect(Collectors.toList()), Label::new);
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Makes the children of {@code pane} labels showing {@code texts} in order, relabelling the existing labels and
+     * creating any more needed with {@code newLabel}.
+     */
+    private static void setLabelTexts(Pane pane, List<String> texts, Supplier<Label> newLabel) {
+        ObservableList<Node> labels = pane.getChildren();
+        if (labels.size() > texts.size()) {
+            labels.remove(texts.size(), labels.size());
+        }
+        for (int i = 0; i < texts.size(); i++) {
+            if (i < labels.size()) {
+                Label label = (Label) labels.get(i);
+                label.setText(texts.get(i));
+            } else {
+                Label label = newLabel.get();
+                label.setText(texts.get(i));
+                labels.add(label);
+            }
+        }
     }
 
     /**
@@ -1,8 +1,11 @@
 package bookface.ui;
 
+import static java.util.Objects.requireNonNull;
+
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
+import bookface.model.BookFaceStatistics;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
@@ -16,6 +19,8 @@ public class StatusBarFooter extends UiPart<Region> {
 
     @FXML
     private Label saveLocationStatus;
+    @FXML
+    private Label statisticsStatus;
 
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path}.
@@ -25,4 +30,12 @@ public class StatusBarFooter extends UiPart<Region> {
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
     }
 
+    /**
+     * Shows {@code statistics} in the status bar.
+     */
+    public void setStatistics(BookFaceStatistics statistics) {
+        requireNonNull(statistics);
+        statisticsStatus.setText(statistics.toString());
+    }
+
 }
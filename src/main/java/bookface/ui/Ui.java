@@ -10,4 +10,13 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /**
+     * Stops the UI from running any more commands, and runs {@code finalTask} on the thread that runs the commands
+     * once the commands already entered have run, so that it sees all their changes. Returns once {@code finalTask}
+     * has run.
+     *
+     * @throws InterruptedException if interrupted while waiting for the commands to run.
+     */
+    void stop(Runnable finalTask) throws InterruptedException;
+
 }
@@ -52,6 +52,16 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void stop(Runnable finalTask) throws InterruptedException {
+        if (mainWindow == null) {
+            // no command was entered, as the main window was never shown
+            finalTask.run();
+            return;
+        }
+        mainWindow.stop(finalTask);
+    }
+
     private Image getImage(String imagePath) {
         return new Image(Objects.requireNonNull(MainApp.class.getResourceAsStream(imagePath)));
     }
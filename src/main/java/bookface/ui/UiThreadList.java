@@ -0,0 +1,65 @@
+package bookface.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * Creates copies of lists that are modified by commands on the {@link CommandWorker} thread, which can be shown by
+ * a {@code ListView} because they are only ever modified on the JavaFX application thread.
+ */
+class UiThreadList {
+
+    /**
+     * Returns an unmodifiable copy of {@code source} that is kept up to date by the UI executor. Each change to
+     * {@code source} is captured on the thread that made it, and replayed on the copy in the same order, so the copy
+     * always holds the elements {@code source} held at some earlier time. The elements themselves are shared, not
+     * copied, so whatever the UI reads from them must be safe to read while they are changed on another thread, as
+     * it may be newer than the copy; a change to an element is followed by an update of its row, which redraws it.
+     * Must be called on the UI executor's thread while {@code source} is not being modified.
+     */
+    static <T> ObservableList<T> copyOf(ObservableList<T> source, Executor uiExecutor) {
+        requireNonNull(source);
+        requireNonNull(uiExecutor);
+        ObservableList<T> copy = FXCollections.observableArrayList(source);
+        source.addListener((ListChangeListener<T>) change -> {
+            List<Runnable> replay = captureChange(change, copy);
+            uiExecutor.execute(() -> replay.forEach(Runnable::run));
+        });
+        return FXCollections.unmodifiableObservableList(copy);
+    }
+
+    /**
+     * Returns the steps that make the same change to {@code copy}. The elements involved are copied, as the source
+     * list may have changed again by the time the steps are run.
+     */
+    private static <T> List<Runnable> captureChange(ListChangeListener.Change<? extends T> change,
+            ObservableList<T> copy) {
+        List<Runnable> replay = new ArrayList<>();
+        while (change.next()) {
+            int from = change.getFrom();
+            if (change.wasPermutated() || change.wasUpdated()) {
+                List<T> elements = new ArrayList<>(change.getList().subList(from, change.getTo()));
+                replay.add(() -> {
+                    for (int i = 0; i < elements.size(); i++) {
+                        copy.set(from + i, elements.get(i));
+                    }
+                });
+            } else {
+                int removedSize = change.getRemovedSize();
+                List<T> added = new ArrayList<>(change.getAddedSubList());
+                replay.add(() -> {
+                    copy.remove(from, from + removedSize);
+                    copy.addAll(from, added);
+                });
+            }
+        }
+        return replay;
+    }
+}
@@ -37,6 +37,19 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_validBatchFilePath_success() {
+        parametersStub.namedParameters.put("batch", "checkins.txt");
+        expected.setBatchFilePath(Paths.get("checkins.txt"));
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidBatchFilePath_success() {
+        parametersStub.namedParameters.put("batch", "a\0");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
     private static class ParametersStub extends Application.Parameters {
         private Map<String, String> namedParameters = new HashMap<>();
 
@@ -1,13 +1,22 @@
 package bookface.commons.util;
 
 import static bookface.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +29,27 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFileKeepingBackup_existingFile_previousContentsKept() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        FileUtil.writeToFileKeepingBackup(file, "first");
+        assertFalse(Files.exists(FileUtil.getBackupPath(file)));
+
+        FileUtil.writeToFileKeepingBackup(file, "second");
+        FileUtil.writeToFileKeepingBackup(file, "third");
+        assertEquals("third", FileUtil.readFromFile(file));
+        assertEquals("second", FileUtil.readFromFile(FileUtil.getBackupPath(file)));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(2, files.count());
+        }
+    }
+
+    @Test
+    public void appendToFile_existingFile_contentAppended() throws Exception {
+        Path file = testFolder.resolve("journal");
+        FileUtil.appendToFile(file, "first\n");
+        FileUtil.appendToFile(file, "second\n");
+        assertEquals("first\nsecond\n", FileUtil.readFromFile(file));
+    }
+
 }
@@ -4,27 +4,37 @@ import static bookface.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_IN
 import static bookface.testutil.Assert.assertThrows;
 import static bookface.testutil.TypicalPersons.AMY;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import bookface.commons.core.Messages;
+import bookface.logic.BatchResult.Status;
 import bookface.logic.commands.Command;
 import bookface.logic.commands.CommandResult;
 import bookface.logic.commands.CommandTestUtil;
+import bookface.logic.commands.ExitCommand;
 import bookface.logic.commands.exceptions.CommandException;
 import bookface.logic.commands.list.ListBooksCommand;
 import bookface.logic.commands.list.ListUsersCommand;
 import bookface.logic.parser.exceptions.ParseException;
+import bookface.model.BookFace;
 import bookface.model.Model;
 import bookface.model.ModelManager;
 import bookface.model.ReadOnlyBookFace;
 import bookface.model.UserPrefs;
 import bookface.model.person.Person;
+import bookface.storage.BookFaceWrite;
 import bookface.storage.JsonBookFaceStorage;
 import bookface.storage.JsonUserPrefsStorage;
 import bookface.storage.StorageManager;
@@ -32,6 +42,8 @@ import bookface.testutil.PersonBuilder;
 
 public class LogicManagerTest {
     private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
+    private static final String ADD_USER_AMY = "add user" + CommandTestUtil.NAME_DESC_AMY
+            + CommandTestUtil.PHONE_DESC_AMY + CommandTestUtil.EMAIL_DESC_AMY;
 
     @TempDir
     public Path temporaryFolder;
@@ -49,6 +61,16 @@ public class LogicManagerTest {
         logic = new LogicManager(model, storage);
     }
 
+    @AfterEach
+    public void tearDown() {
+        // let background saves finish writing to the temporary folder before it is deleted
+        try {
+            logic.flush();
+        } catch (IOException ioe) {
+            // failures to save are checked by the tests that expect them
+        }
+    }
+
     @Test
     public void execute_invalidCommandFormat_throwsParseException() {
         String invalidCommand = "uicfhmowqewca";
@@ -74,7 +96,7 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
+    public void execute_storageThrowsIoException_failureReported() throws Exception {
         // Setup LogicManager with JsonBookFaceIoExceptionThrowingStub
         JsonBookFaceStorage bookFaceStorage =
                 new JsonBookFaceIoExceptionThrowingStub(temporaryFolder
@@ -83,15 +105,145 @@ public class LogicManagerTest {
                 new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
         StorageManager storage = new StorageManager(bookFaceStorage, userPrefsStorage);
         logic = new LogicManager(model, storage);
+        List<String> reportedFailures = new CopyOnWriteArrayList<>();
+        logic.setSaveFailureHandler(reportedFailures::add);
 
-        // Execute add command
+        // Execute add command, which is saved in the background
         String addCommand = "add user" + CommandTestUtil.NAME_DESC_AMY + CommandTestUtil.PHONE_DESC_AMY
                 + CommandTestUtil.EMAIL_DESC_AMY;
         Person expectedPerson = new PersonBuilder(AMY).withTags().build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addPerson(expectedPerson);
+        logic.execute(addCommand);
+
+        // Exit waits for the data to be saved, and fails as the data could not be saved
         String expectedMessage = LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        assertCommandFailure(ExitCommand.COMMAND_WORD, CommandException.class, expectedMessage, expectedModel);
+        assertFalse(reportedFailures.isEmpty());
+        reportedFailures.forEach(message -> assertEquals(expectedMessage, message));
+        // the data was never written, so it is not reported as saved
+        assertEquals(LogicManager.NO_SAVED_VERSION, logic.getSavedBookFaceVersion());
+    }
+
+    @Test
+    public void execute_unchangedBookFace_savedOnlyOnce() throws Exception {
+        SaveCountingStorageStub bookFaceStorage =
+                new SaveCountingStorageStub(temporaryFolder.resolve("countedBookFace.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("countedUserPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(bookFaceStorage, userPrefsStorage));
+
+        logic.execute("list users");
+        logic.execute("list books");
+        logic.flush();
+        assertEquals(1, bookFaceStorage.saveCount);
+        assertEquals(logic.getBookFaceVersion(), logic.getSavedBookFaceVersion());
+
+        logic.execute("add user" + CommandTestUtil.NAME_DESC_AMY + CommandTestUtil.PHONE_DESC_AMY
+                + CommandTestUtil.EMAIL_DESC_AMY);
+        logic.flush();
+        assertEquals(2, bookFaceStorage.saveCount);
+        assertEquals(logic.getBookFaceVersion(), logic.getSavedBookFaceVersion());
+    }
+
+    @Test
+    public void executeBatch_validCommands_allExecutedAndSavedOnce() throws Exception {
+        SaveCountingStorageStub bookFaceStorage =
+                new SaveCountingStorageStub(temporaryFolder.resolve("batchBookFace.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("batchUserPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(bookFaceStorage, userPrefsStorage));
+
+        BatchResult result = logic.executeBatch("# nightly check-in\n"
+                + ADD_USER_AMY + "\n\n"
+                + "add book t/Batch Processing a/Lim Chee Teck\n"
+                + "loan 1 1 2022-10-30\n");
+
+        assertTrue(result.isSuccessful());
+        assertEquals(3, result.getExecutedCount());
+        assertEquals(List.of(2, 4, 5), result.getLineResults().stream()
+                .map(BatchResult.LineResult::getLineNumber).collect(Collectors.toList()));
+        result.getLineResults().forEach(lineResult -> assertEquals(Status.EXECUTED, lineResult.getStatus()));
+        assertEquals(1, model.getFilteredBookList().size());
+        assertTrue(model.getFilteredBookList().get(0).isLoaned());
+        logic.flush();
+        assertEquals(1, bookFaceStorage.saveCount);
+        assertEquals(logic.getBookFaceVersion(), logic.getSavedBookFaceVersion());
+    }
+
+    @Test
+    public void executeBatch_failingCommand_changesUndone() throws Exception {
+        logic.execute("add book t/Rollback a/Lim Chee Teck");
+        logic.flush();
+        Model expectedModel = new ModelManager(BookFace.deepCopyOf(model.getBookFace()), new UserPrefs());
+
+        BatchResult result = logic.executeBatch(ADD_USER_AMY + "\nloan 1 1\ndelete user 9\nlist users");
+
+        assertFalse(result.isSuccessful());
+        assertEquals(List.of(Status.ROLLED_BACK, Status.ROLLED_BACK, Status.FAILED, Status.NOT_EXECUTED),
+                result.getLineResults().stream().map(BatchResult.LineResult::getStatus)
+                        .collect(Collectors.toList()));
+        assertEquals(MESSAGE_INVALID_PERSON_DISPLAYED_INDEX, result.getLineResults().get(2).getMessage());
+        assertEquals(String.format(BatchResult.MESSAGE_ROLLED_BACK, 3), result.getSummary());
+        assertEquals(expectedModel, model);
+        assertFalse(model.getBookFace().getBookList().get(0).isLoaned());
+        // the data is back to what was saved, so it is not saved again
+        assertEquals(logic.getBookFaceVersion(), logic.getSavedBookFaceVersion());
+    }
+
+    @Test
+    public void execute_unexpectedExceptionAfterChange_changeSaved() throws Exception {
+        Model failingModel = new ModelManager() {
+            @Override
+            public void addPerson(Person person) {
+                super.addPerson(person);
+                throw new IllegalStateException("unexpected failure");
+            }
+        };
+        JsonBookFaceStorage bookFaceStorage = new JsonBookFaceStorage(temporaryFolder.resolve("bookFace.json"));
+        logic = new LogicManager(failingModel, new StorageManager(bookFaceStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+
+        assertThrows(IllegalStateException.class, "unexpected failure", () -> logic.execute(ADD_USER_AMY));
+        logic.flush();
+        assertEquals(logic.getBookFaceVersion(), logic.getSavedBookFaceVersion());
+        assertEquals(failingModel.getBookFace(), bookFaceStorage.readBookFace().get());
+    }
+
+    @Test
+    public void executeBatch_unexpectedException_changesUndoneAndRethrown() throws Exception {
+        Model failingModel = new ModelManager() {
+            @Override
+            public void deletePerson(Person target) {
+                throw new IllegalStateException("unexpected failure");
+            }
+        };
+        logic = new LogicManager(failingModel, new StorageManager(
+                new JsonBookFaceStorage(temporaryFolder.resolve("bookFace.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+        logic.execute("add book t/Rollback a/Lim Chee Teck");
+        logic.flush();
+        Model expectedModel = new ModelManager(BookFace.deepCopyOf(failingModel.getBookFace()), new UserPrefs());
+
+        assertThrows(IllegalStateException.class, "unexpected failure", () ->
+                logic.executeBatch(ADD_USER_AMY + "\nloan 1 1\nadd user" + CommandTestUtil.NAME_DESC_BOB
+                        + CommandTestUtil.PHONE_DESC_BOB + CommandTestUtil.EMAIL_DESC_BOB + "\ndelete user 2"));
+        assertEquals(expectedModel, failingModel);
+        assertFalse(failingModel.getBookFace().getBookList().get(0).isLoaned());
+        assertEquals(logic.getBookFaceVersion(), logic.getSavedBookFaceVersion());
+    }
+
+    @Test
+    public void executeBatch_unparseableLine_nothingExecuted() {
+        BatchResult result = logic.executeBatch(ADD_USER_AMY + "\nuicfhmowqewca\nloan 1");
+
+        assertFalse(result.isSuccessful());
+        assertEquals(0, result.getExecutedCount());
+        assertEquals(List.of(Status.NOT_EXECUTED, Status.FAILED, Status.FAILED),
+                result.getLineResults().stream().map(BatchResult.LineResult::getStatus)
+                        .collect(Collectors.toList()));
+        assertEquals(String.format(BatchResult.MESSAGE_PARSE_FAILURE, 2), result.getSummary());
+        assertEquals(new ModelManager(), model);
     }
 
     @Test
@@ -158,7 +310,7 @@ public class LogicManagerTest {
     }
 
     /**
-     * A stub class to throw an {@code IOException} when the save method is called.
+     * A stub class to throw an {@code IOException} when BookFace is written.
      */
     private static class JsonBookFaceIoExceptionThrowingStub extends JsonBookFaceStorage {
         private JsonBookFaceIoExceptionThrowingStub(Path filePath) {
@@ -166,8 +318,27 @@ public class LogicManagerTest {
         }
 
         @Override
-        public void saveBookFace(ReadOnlyBookFace bookFace, Path filePath) throws IOException {
-            throw DUMMY_IO_EXCEPTION;
+        public BookFaceWrite prepareSaveBookFace(ReadOnlyBookFace bookFace) {
+            return () -> {
+                throw DUMMY_IO_EXCEPTION;
+            };
+        }
+    }
+
+    /**
+     * A stub class to count the number of times BookFace is saved.
+     */
+    private static class SaveCountingStorageStub extends JsonBookFaceStorage {
+        private int saveCount;
+
+        private SaveCountingStorageStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public BookFaceWrite prepareSaveBookFace(ReadOnlyBookFace bookFace) {
+            saveCount++;
+            return super.prepareSaveBookFace(bookFace);
         }
     }
 }
@@ -0,0 +1,22 @@
+package bookface.logic.commands;
+
+import static bookface.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static bookface.logic.commands.StatsCommand.MESSAGE_SUCCESS;
+import static bookface.testutil.TypicalPersons.getTypicalBookFaceData;
+
+import org.junit.jupiter.api.Test;
+
+import bookface.model.Model;
+import bookface.model.ModelManager;
+import bookface.model.UserPrefs;
+
+public class StatsCommandTest {
+    private Model model = new ModelManager(getTypicalBookFaceData(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalBookFaceData(), new UserPrefs());
+
+    @Test
+    public void execute_stats_showsCounts() {
+        String expectedMessage = String.format(MESSAGE_SUCCESS, 1, 0, 0, 7, 0, 0.0);
+        assertCommandSuccess(new StatsCommand(), model, expectedMessage, expectedModel);
+    }
+}
@@ -7,8 +7,10 @@ import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -18,11 +20,14 @@ import bookface.commons.core.Messages;
 import bookface.logic.commands.CommandResult;
 import bookface.logic.commands.exceptions.CommandException;
 import bookface.model.BookFace;
+import bookface.model.BookFaceStatistics;
 import bookface.model.Model;
 import bookface.model.ReadOnlyBookFace;
 import bookface.model.ReadOnlyUserPrefs;
 import bookface.model.book.Book;
+import bookface.model.person.Name;
 import bookface.model.person.Person;
+import bookface.model.tag.Tag;
 import bookface.testutil.PersonBuilder;
 import javafx.collections.ObservableList;
 
@@ -127,6 +132,11 @@ public class AddUserCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getBookFaceVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -191,6 +201,26 @@ public class AddUserCommandTest {
         public void returnLoanedBook(Book book) {
             throw new AssertionError("This method should not be called");
         }
+
+        @Override
+        public Set<Book> getCandidateBooks(List<String> keywords) {
+            throw new AssertionError("This method should not be called");
+        }
+
+        @Override
+        public Set<Name> getCandidatePersonNames(List<String> keywords) {
+            throw new AssertionError("This method should not be called");
+        }
+
+        @Override
+        public Set<Name> getPersonNamesWithAnyTag(Collection<Tag> tags) {
+            throw new AssertionError("This method should not be called");
+        }
+
+        @Override
+        public BookFaceStatistics getStatistics() {
+            throw new AssertionError("This method should not be called");
+        }
     }
 
     /**
@@ -0,0 +1,61 @@
+package bookface.logic.commands.find;
+
+import static bookface.commons.core.Messages.MESSAGE_BOOKS_LISTED_OVERVIEW;
+import static bookface.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static bookface.testutil.TestUtil.preparePredicateToCheckBookForPartialWordIgnoreCase;
+import static bookface.testutil.TypicalBooks.GET_MOTIVATED;
+import static bookface.testutil.TypicalBooks.MAKING_A_COMPUTER;
+import static bookface.testutil.TypicalPersons.getAllTypicalBookFaceData;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import bookface.model.Model;
+import bookface.model.ModelManager;
+import bookface.model.ObjectContainsKeywordsPredicate;
+import bookface.model.UserPrefs;
+import bookface.model.book.Book;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FindBookCommand}.
+ */
+public class FindBookCommandTest {
+    private final Model model = new ModelManager(getAllTypicalBookFaceData(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getAllTypicalBookFaceData(), new UserPrefs());
+
+    @Test
+    public void execute_shortKeyword_booksFound() {
+        String expectedMessage = String.format(MESSAGE_BOOKS_LISTED_OVERVIEW, 1);
+        ObjectContainsKeywordsPredicate<Book, String> predicate =
+                preparePredicateToCheckBookForPartialWordIgnoreCase("ITH");
+        FindBookCommand command = new FindBookCommand(predicate);
+        expectedModel.updateFilteredBookList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.singletonList(MAKING_A_COMPUTER), model.getFilteredBookList());
+    }
+
+    @Test
+    public void execute_multipleKeywords_multipleBooksFound() {
+        String expectedMessage = String.format(MESSAGE_BOOKS_LISTED_OVERVIEW, 2);
+        ObjectContainsKeywordsPredicate<Book, String> predicate =
+                preparePredicateToCheckBookForPartialWordIgnoreCase("tivat smIth");
+        FindBookCommand command = new FindBookCommand(predicate);
+        expectedModel.updateFilteredBookList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(MAKING_A_COMPUTER, GET_MOTIVATED), model.getFilteredBookList());
+    }
+
+    @Test
+    public void execute_keywordSpanningWords_noBookFound() {
+        String expectedMessage = String.format(MESSAGE_BOOKS_LISTED_OVERVIEW, 0);
+        ObjectContainsKeywordsPredicate<Book, String> predicate =
+                preparePredicateToCheckBookForPartialWordIgnoreCase("GetMotivated");
+        FindBookCommand command = new FindBookCommand(predicate);
+        expectedModel.updateFilteredBookList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredBookList());
+    }
+}
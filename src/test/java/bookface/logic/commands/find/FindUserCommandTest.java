@@ -2,10 +2,12 @@ package bookface.logic.commands.find;
 
 import static bookface.commons.core.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static bookface.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static bookface.testutil.TestUtil.preparePredicateToCheckPersonDetailsForPartialWordIgnoreCase;
 import static bookface.testutil.TestUtil.preparePredicateToCheckPersonForPartialWordIgnoreCase;
 import static bookface.testutil.TypicalPersons.CARL;
 import static bookface.testutil.TypicalPersons.ELLE;
 import static bookface.testutil.TypicalPersons.FIONA;
+import static bookface.testutil.TypicalPersons.GEORGE;
 import static bookface.testutil.TypicalPersons.getTypicalBookFaceData;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
@@ -76,4 +78,15 @@ public class FindUserCommandTest {
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
     }
+
+    @Test
+    public void execute_phoneAndEmailFragments_multiplePersonsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 4);
+        ObjectContainsKeywordsPredicate<Person, String> predicate =
+                preparePredicateToCheckPersonDetailsForPartialWordIgnoreCase("9482 HEINZ@");
+        FindUserCommand command = new FindUserCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(CARL, ELLE, FIONA, GEORGE), model.getFilteredPersonList());
+    }
 }
@@ -0,0 +1,53 @@
+package bookface.logic.commands.list;
+
+import static bookface.testutil.TypicalDates.TYPICAL_DATE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import bookface.model.Model;
+import bookface.model.ModelManager;
+import bookface.model.book.Book;
+import bookface.model.person.Person;
+import bookface.testutil.BookBuilder;
+import bookface.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for ListOverdueCommand.
+ */
+public class ListOverdueCommandTest {
+
+    private final Person loanee = new PersonBuilder().build();
+    private final Book overdueBook = new BookBuilder().withTitle("Overdue").build();
+    private final Book availableBook = new BookBuilder().withTitle("Available").build();
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager();
+        model.addPerson(new PersonBuilder().withName("Other Name").build());
+        model.addPerson(loanee);
+        model.addBook(overdueBook);
+        model.addBook(availableBook);
+        model.loan(loanee, overdueBook, TYPICAL_DATE);
+    }
+
+    @Test
+    public void execute_overdueLoan_showsLoaneeAndBook() {
+        new ListOverdueCommand().execute(model);
+        assertEquals(List.of(loanee), model.getFilteredPersonList());
+        assertEquals(List.of(overdueBook), model.getFilteredBookList());
+    }
+
+    @Test
+    public void execute_overdueBookReturnedAfterwards_removedFromList() {
+        new ListOverdueCommand().execute(model);
+        model.returnLoanedBook(overdueBook);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+        assertEquals(Collections.emptyList(), model.getFilteredBookList());
+    }
+}
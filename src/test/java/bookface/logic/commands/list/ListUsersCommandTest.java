@@ -1,7 +1,13 @@
 package bookface.logic.commands.list;
 
 import static bookface.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static bookface.testutil.TypicalPersons.BENSON;
 import static bookface.testutil.TypicalPersons.getTypicalBookFaceData;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -10,6 +16,7 @@ import bookface.logic.commands.CommandTestUtil;
 import bookface.model.Model;
 import bookface.model.ModelManager;
 import bookface.model.UserPrefs;
+import bookface.model.tag.Tag;
 import bookface.testutil.TypicalIndexes;
 
 /**
@@ -36,4 +43,25 @@ public class ListUsersCommandTest {
         CommandTestUtil.showPersonAtIndex(model, TypicalIndexes.INDEX_FIRST_PERSON);
         assertCommandSuccess(new ListUsersCommand(), model, ListUsersCommand.MESSAGE_SUCCESS, expectedModel);
     }
+
+    @Test
+    public void execute_tags_showsUsersWithAnyTag() {
+        Set<Tag> tags = Set.of(new Tag("owesMoney"), new Tag("unknown"));
+        String expectedMessage = String.format(ListUsersCommand.MESSAGE_SUCCESS_TAGGED, "[owesMoney] [unknown]");
+        expectedModel.updateFilteredPersonList(person -> person.getTags().contains(new Tag("owesMoney")));
+        assertCommandSuccess(new ListUsersCommand(tags), model, expectedMessage, expectedModel);
+        assertEquals(List.of(BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void equals() {
+        ListUsersCommand listFriendsCommand = new ListUsersCommand(Set.of(new Tag("friends")));
+
+        // same values -> returns true
+        assertEquals(listFriendsCommand, new ListUsersCommand(Set.of(new Tag("friends"))));
+        assertEquals(new ListUsersCommand(), new ListUsersCommand(Set.of()));
+
+        // different tags -> returns false
+        assertNotEquals(listFriendsCommand, new ListUsersCommand());
+    }
 }
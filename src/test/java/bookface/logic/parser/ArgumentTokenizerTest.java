@@ -135,6 +135,26 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_repeatedPrefixAllowed_allValuesInOrder() throws ParseException {
+        Prefix tag = CliSyntax.PREFIXES_MULTIPLE_ALLOWED.get(0);
+        String argsString = " preamble " + tag + "first p/ pSlash value " + tag + tag + " second " + tag;
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, tag);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, pSlash, "pSlash value");
+        assertArgumentPresent(argMultimap, tag, "first", tag + " second", "");
+    }
+
+    @Test
+    public void tokenize_prefixesSharingStart_longestPrefixRecognised() throws ParseException {
+        Prefix dashTag = new Prefix("-tag");
+        String argsString = "preamble -tag tag value -t dashT value";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, dashT, dashTag);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, dashTag, "tag value");
+        assertArgumentPresent(argMultimap, dashT, "dashT value");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
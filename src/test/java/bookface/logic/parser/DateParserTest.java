@@ -0,0 +1,118 @@
+package bookface.logic.parser;
+
+import static bookface.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import bookface.commons.core.Messages;
+import bookface.logic.parser.exceptions.ParseException;
+
+public class DateParserTest {
+
+    private final MutableClock clock = new MutableClock(LocalDate.now().atTime(LocalTime.NOON)
+            .atZone(ZoneId.systemDefault()).toInstant());
+    private final DateParser dateParser = new DateParser(clock);
+
+    @Test
+    public void parse_dayMonthYear_success() throws Exception {
+        assertEquals(java.sql.Date.valueOf(LocalDate.of(2022, 10, 31)), dateParser.parse("31/10/2022").get());
+    }
+
+    @Test
+    public void parse_yearMonthDay_success() throws Exception {
+        assertEquals(java.sql.Date.valueOf(LocalDate.of(2022, 10, 25)), dateParser.parse("2022-10-25").get());
+    }
+
+    @Test
+    public void parse_invalidDayOrMonth_throwsParseException() {
+        assertThrows(ParseException.class, Messages.MESSAGE_INVALID_DATE_FORMAT, () -> dateParser.parse("32/10/2022"));
+        assertThrows(ParseException.class, Messages.MESSAGE_INVALID_DATE_FORMAT, () -> dateParser.parse("2022-13-01"));
+    }
+
+    @Test
+    public void parse_notADate_emptyResult() throws Exception {
+        assertFalse(dateParser.parse("book").isPresent());
+    }
+
+    @Test
+    public void parse_naturalLanguage_success() throws Exception {
+        assertCloseTo(daysFromNow(1), dateParser.parse("tomorrow").get());
+    }
+
+    @Test
+    public void parse_repeatedShortlyAfter_cachedDateReused() throws Exception {
+        Date firstDate = dateParser.parse("tomorrow").get();
+        clock.advance(Duration.ofSeconds(30));
+
+        // a cached date is moved by the time that has passed, while a newly parsed date would hardly have moved
+        Date secondDate = dateParser.parse("tomorrow").get();
+        assertTrue(secondDate.getTime() - firstDate.getTime() >= TimeUnit.SECONDS.toMillis(29));
+    }
+
+    @Test
+    public void parse_repeatedOnAnotherDay_parsedAgain() throws Exception {
+        dateParser.parse("tomorrow");
+        clock.advance(Duration.ofDays(3));
+
+        assertCloseTo(daysFromNow(1), dateParser.parse("tomorrow").get());
+    }
+
+    @Test
+    public void parse_repeatedAfterLifetime_parsedAgain() throws Exception {
+        dateParser.parse("tomorrow");
+        clock.advance(DateParser.CACHE_ENTRY_LIFETIME);
+
+        assertCloseTo(daysFromNow(1), dateParser.parse("tomorrow").get());
+    }
+
+    private static Date daysFromNow(int days) {
+        return new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(days));
+    }
+
+    private static void assertCloseTo(Date expected, Date actual) {
+        long difference = Math.abs(expected.getTime() - actual.getTime());
+        assertTrue(difference < TimeUnit.SECONDS.toMillis(10), "expected " + expected + " but was " + actual);
+    }
+
+    /**
+     * A clock that is stopped at a time that can be moved.
+     */
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.systemDefault();
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
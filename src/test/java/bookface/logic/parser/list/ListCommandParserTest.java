@@ -4,11 +4,14 @@ import static bookface.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static bookface.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static bookface.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
 import bookface.logic.commands.list.ListBooksCommand;
 import bookface.logic.commands.list.ListCommand;
 import bookface.logic.commands.list.ListUsersCommand;
+import bookface.model.tag.Tag;
 
 
 public class ListCommandParserTest {
@@ -19,6 +22,17 @@ public class ListCommandParserTest {
         assertParseSuccess(parser, ListUsersCommand.COMMAND_WORD, new ListUsersCommand());
     }
 
+    @Test
+    public void parse_tags_returnsTaggedListUsersCommand() {
+        assertParseSuccess(parser, ListUsersCommand.COMMAND_WORD + " t/friends t/owesMoney",
+                new ListUsersCommand(Set.of(new Tag("friends"), new Tag("owesMoney"))));
+    }
+
+    @Test
+    public void parse_invalidTag_throwsParseException() {
+        assertParseFailure(parser, ListUsersCommand.COMMAND_WORD + " t/not valid", Tag.MESSAGE_CONSTRAINTS);
+    }
+
     @Test
     public void parse_validArgs_returnsListBooksCommand() {
         assertParseSuccess(parser, ListBooksCommand.COMMAND_WORD, new ListBooksCommand());
@@ -3,6 +3,7 @@ package bookface.model;
 import static bookface.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static bookface.testutil.Assert.assertThrows;
 import static bookface.testutil.TypicalBooks.GET_MOTIVATED;
+import static bookface.testutil.TypicalDates.TYPICAL_DATE;
 import static bookface.testutil.TypicalPersons.ALICE;
 import static bookface.testutil.TypicalPersons.getTypicalBookFaceData;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -12,13 +13,18 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Date;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import bookface.model.book.Book;
+import bookface.model.book.exceptions.DuplicateBookException;
 import bookface.model.person.Person;
 import bookface.model.person.exceptions.DuplicatePersonException;
+import bookface.testutil.BookBuilder;
 import bookface.testutil.PersonBuilder;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -55,6 +61,24 @@ public class BookFaceTest {
         assertThrows(DuplicatePersonException.class, () -> bookFace.resetData(newData));
     }
 
+    @Test
+    public void getVersion_changedOnlyByMutations() {
+        long initialVersion = bookFace.getVersion();
+        Person person = new PersonBuilder().build();
+        Book book = new BookBuilder().build();
+        bookFace.hasPerson(person);
+        bookFace.getStatistics(TYPICAL_DATE);
+        assertEquals(initialVersion, bookFace.getVersion());
+
+        bookFace.addPerson(person);
+        bookFace.addBook(book);
+        long versionAfterAdding = bookFace.getVersion();
+        assertTrue(versionAfterAdding > initialVersion);
+
+        bookFace.loan(person, book, TYPICAL_DATE);
+        assertTrue(bookFace.getVersion() > versionAfterAdding);
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> bookFace.hasPerson(null));
@@ -94,6 +118,153 @@ public class BookFaceTest {
         assertThrows(NullPointerException.class, () -> bookFace.returnLoanedBook(null));
     }
 
+    @Test
+    public void deepCopyOf_withLoan_unaffectedByLaterReturn() {
+        Person person = new PersonBuilder().build();
+        Book book = new BookBuilder().build();
+        bookFace.addPerson(person);
+        bookFace.addBook(book);
+        bookFace.loan(person, book, TYPICAL_DATE);
+
+        BookFace copy = BookFace.deepCopyOf(bookFace);
+        assertEquals(bookFace, copy);
+        Book copiedBook = copy.getBookList().get(0);
+        assertEquals(TYPICAL_DATE, copiedBook.getReturnDate().get());
+        assertEquals(Optional.of(copy.getPersonList().get(0)), copy.getLoanee(copiedBook));
+
+        bookFace.returnLoanedBook(book);
+        assertTrue(copiedBook.isLoaned());
+        assertTrue(copy.getPersonList().get(0).hasPersonLoanedThisBook(copiedBook));
+    }
+
+    @Test
+    public void deepCopyOf_loanedBookNotInBookList_throwsIllegalStateException() {
+        Person person = new PersonBuilder().build();
+        Book book = new BookBuilder().build();
+        book.loanTo(person, TYPICAL_DATE);
+        person.addLoanedBook(book);
+        bookFace.addPerson(person);
+
+        assertThrows(IllegalStateException.class, String.format(BookFace.MESSAGE_INCONSISTENT_LOAN, book,
+                person.getName()), () -> BookFace.deepCopyOf(bookFace));
+    }
+
+    @Test
+    public void deepCopyOf_loanedBookWithoutReturnDate_throwsIllegalStateException() {
+        Person person = new PersonBuilder().build();
+        Book book = new BookBuilder().build();
+        bookFace.addBook(book);
+        person.addLoanedBook(book);
+        bookFace.addPerson(person);
+
+        assertThrows(IllegalStateException.class, String.format(BookFace.MESSAGE_INCONSISTENT_LOAN, book,
+                person.getName()), () -> BookFace.deepCopyOf(bookFace));
+    }
+
+    @Test
+    public void getLoanee_afterLoanAndReturn_tracksLoanee() {
+        Person person = new PersonBuilder().build();
+        Book book = new BookBuilder().build();
+        bookFace.addPerson(person);
+        bookFace.addBook(book);
+        assertEquals(Optional.empty(), bookFace.getLoanee(book));
+
+        bookFace.loan(person, book, TYPICAL_DATE);
+        assertEquals(Optional.of(person), bookFace.getLoanee(book));
+
+        bookFace.returnLoanedBook(book);
+        assertEquals(Optional.empty(), bookFace.getLoanee(book));
+        assertFalse(person.hasBooksOnLoan());
+    }
+
+    @Test
+    public void getLoanee_afterEditingLoanee_returnsEditedPerson() {
+        Person person = new PersonBuilder().build();
+        Book book = new BookBuilder().build();
+        bookFace.addPerson(person);
+        bookFace.addBook(book);
+        bookFace.loan(person, book, TYPICAL_DATE);
+
+        Person editedPerson = new PersonBuilder(person).withTags(VALID_TAG_HUSBAND).build();
+        bookFace.setPerson(person, editedPerson);
+        assertEquals(Optional.of(editedPerson), bookFace.getLoanee(book));
+    }
+
+    @Test
+    public void getLoanee_afterEditingLoanedBook_returnsLoaneeForEditedBook() {
+        Person person = new PersonBuilder().build();
+        Book book = new BookBuilder().build();
+        bookFace.addPerson(person);
+        bookFace.addBook(book);
+        bookFace.loan(person, book, TYPICAL_DATE);
+
+        Book editedBook = new BookBuilder(book).withTitle("Edited Title").build();
+        bookFace.setBook(book, editedBook);
+        assertEquals(Optional.empty(), bookFace.getLoanee(book));
+        assertEquals(Optional.of(person), bookFace.getLoanee(editedBook));
+    }
+
+    @Test
+    public void setPerson_duplicateEditedLoanee_loanUnchanged() {
+        Person person = new PersonBuilder().build();
+        Person otherPerson = new PersonBuilder().withName("Other Name").build();
+        Book book = new BookBuilder().build();
+        bookFace.addPerson(person);
+        bookFace.addPerson(otherPerson);
+        bookFace.addBook(book);
+        bookFace.loan(person, book, TYPICAL_DATE);
+        BookFaceStatistics statistics = bookFace.getStatistics(TYPICAL_DATE);
+
+        Person editedPerson = new PersonBuilder(otherPerson).withTags(VALID_TAG_HUSBAND).build();
+        assertThrows(DuplicatePersonException.class, () -> bookFace.setPerson(person, editedPerson));
+        assertEquals(Optional.of(person), bookFace.getLoanee(book));
+        assertEquals(Optional.of(person), book.getLoanee());
+        assertEquals(statistics, bookFace.getStatistics(TYPICAL_DATE));
+    }
+
+    @Test
+    public void setBook_duplicateEditedLoanedBook_loanUnchanged() {
+        Person person = new PersonBuilder().build();
+        Book book = new BookBuilder().build();
+        Book otherBook = new BookBuilder().withTitle("Other Title").build();
+        bookFace.addPerson(person);
+        bookFace.addBook(book);
+        bookFace.addBook(otherBook);
+        bookFace.loan(person, book, TYPICAL_DATE);
+
+        Book editedBook = new BookBuilder(otherBook).build();
+        assertThrows(DuplicateBookException.class, () -> bookFace.setBook(book, editedBook));
+        assertEquals(Optional.of(person), bookFace.getLoanee(book));
+        assertEquals(Optional.empty(), bookFace.getLoanee(editedBook));
+        assertEquals(Set.of(book), person.getLoanedBooksSet());
+        assertFalse(editedBook.isLoaned());
+    }
+
+    @Test
+    public void getStatistics_afterLoansAndPersonEdit_tracksCounts() {
+        Person person = new PersonBuilder().build();
+        Book firstBook = new BookBuilder().withTitle("First").build();
+        Book secondBook = new BookBuilder().withTitle("Second").build();
+        bookFace.addPerson(person);
+        bookFace.addBook(firstBook);
+        bookFace.addBook(secondBook);
+        // built before the loans, as PersonBuilder would otherwise reset the return dates of the loaned books
+        Person editedPerson = new PersonBuilder(person).withName("Edited Name").build();
+        Date afterReturnDate = new Date(TYPICAL_DATE.getTime() + 1);
+        assertEquals(new BookFaceStatistics(2, 1, 0, 0, 0), bookFace.getStatistics(afterReturnDate));
+
+        bookFace.loan(person, firstBook, TYPICAL_DATE);
+        bookFace.loan(person, secondBook, afterReturnDate);
+        assertEquals(new BookFaceStatistics(2, 1, 2, 1, 1), bookFace.getStatistics(afterReturnDate));
+
+        bookFace.setPerson(person, editedPerson);
+        bookFace.returnLoanedBook(firstBook);
+        assertEquals(new BookFaceStatistics(2, 1, 1, 0, 1), bookFace.getStatistics(afterReturnDate));
+
+        bookFace.returnLoanedBook(secondBook);
+        assertEquals(new BookFaceStatistics(2, 1, 0, 0, 0), bookFace.getStatistics(afterReturnDate));
+    }
+
     /**
      * A stub ReadOnlyBookFace whose persons list can violate interface constraints.
      */
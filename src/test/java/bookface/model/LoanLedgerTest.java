@@ -0,0 +1,78 @@
+package bookface.model;
+
+import static bookface.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Date;
+
+import org.junit.jupiter.api.Test;
+
+import bookface.model.book.Book;
+import bookface.testutil.BookBuilder;
+
+public class LoanLedgerTest {
+
+    private static final long ONE_DAY = 24L * 60 * 60 * 1000;
+
+    private static final Date DAY_ONE = new Date(ONE_DAY);
+    private static final Date DAY_TWO = new Date(2 * ONE_DAY);
+    private static final Date DAY_THREE = new Date(3 * ONE_DAY);
+
+    private final Book first = new BookBuilder().withTitle("First").build();
+    private final Book second = new BookBuilder().withTitle("Second").build();
+    private final Book third = new BookBuilder().withTitle("Third").build();
+
+    private final LoanLedger loanLedger = new LoanLedger();
+
+    @Test
+    public void add_nullBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> loanLedger.add(null, DAY_ONE));
+    }
+
+    @Test
+    public void countBooksDueBefore_sameDate_excludesBooksDueOnDate() {
+        loanLedger.add(first, DAY_ONE);
+        assertEquals(0, loanLedger.countBooksDueBefore(DAY_ONE));
+        assertEquals(1, loanLedger.countBooksDueBefore(DAY_TWO));
+    }
+
+    @Test
+    public void add_bookAlreadyRecorded_replacesReturnDate() {
+        loanLedger.add(first, DAY_ONE);
+        loanLedger.add(first, DAY_THREE);
+        assertEquals(1, loanLedger.size());
+        assertEquals(0, loanLedger.countBooksDueBefore(DAY_TWO));
+        assertEquals(1, loanLedger.countBooksDueBefore(new Date(DAY_THREE.getTime() + 1)));
+    }
+
+    @Test
+    public void remove_recordedBook_removesFromLedger() {
+        loanLedger.add(first, DAY_ONE);
+        loanLedger.add(second, DAY_ONE);
+        loanLedger.remove(first);
+        assertEquals(1, loanLedger.size());
+        assertEquals(1, loanLedger.countBooksDueBefore(DAY_TWO));
+    }
+
+    @Test
+    public void countBooksDueBefore_changesBetweenCounts_keepsCountCurrent() {
+        loanLedger.add(first, DAY_ONE);
+        loanLedger.add(second, DAY_TWO);
+        assertEquals(1, loanLedger.countBooksDueBefore(DAY_TWO));
+
+        loanLedger.add(third, DAY_ONE);
+        loanLedger.remove(first);
+        assertEquals(1, loanLedger.countBooksDueBefore(DAY_TWO));
+        assertEquals(2, loanLedger.countBooksDueBefore(DAY_THREE));
+        assertEquals(0, loanLedger.countBooksDueBefore(DAY_ONE));
+
+        loanLedger.clear();
+        assertEquals(0, loanLedger.countBooksDueBefore(DAY_THREE));
+    }
+
+    @Test
+    public void remove_unrecordedBook_doesNothing() {
+        loanLedger.remove(first);
+        assertEquals(0, loanLedger.size());
+    }
+}
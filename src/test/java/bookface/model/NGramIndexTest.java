@@ -0,0 +1,54 @@
+package bookface.model;
+
+import static bookface.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class NGramIndexTest {
+
+    private final NGramIndex<String> index = new NGramIndex<>();
+
+    @Test
+    public void add_nullTexts_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add("entry", null));
+    }
+
+    @Test
+    public void getCandidates_shortKeyword_matchesPartOfWordIgnoringCase() {
+        index.add("first", List.of("How to Spell", "Ronald Johnson"));
+        index.add("second", List.of("Making a Computer", "Roger Smith"));
+        assertEquals(Set.of("first", "second"), index.getCandidates("O"));
+        assertEquals(Set.of("first"), index.getCandidates("ell"));
+        assertEquals(Collections.emptySet(), index.getCandidates("xyz"));
+        assertEquals(Collections.emptySet(), index.getCandidates(" "));
+    }
+
+    @Test
+    public void getCandidates_longKeyword_intersectsGrams() {
+        index.add("first", List.of("How to Spell", "Ronald Johnson"));
+        index.add("second", List.of("Making a Computer", "Roger Smith"));
+        assertEquals(Set.of("second"), index.getCandidates("COMPUT"));
+        assertEquals(Collections.emptySet(), index.getCandidates("Computers"));
+    }
+
+    @Test
+    public void getCandidates_gramsSpreadAcrossWords_returnsCandidate() {
+        // every gram of the keyword is present, but not within a single word
+        index.add("entry", List.of("abcd bcde"));
+        assertEquals(Set.of("entry"), index.getCandidates("abcde"));
+    }
+
+    @Test
+    public void remove_indexedEntry_removesFromAllGrams() {
+        index.add("first", List.of("Get Motivated"));
+        index.add("second", List.of("Motive"));
+        index.remove("first", List.of("Get Motivated"));
+        assertEquals(Set.of("second"), index.getCandidates("moti"));
+        assertEquals(Collections.emptySet(), index.getCandidates("get"));
+    }
+}
@@ -3,7 +3,10 @@ package bookface.model.book;
 import static bookface.testutil.Assert.assertThrows;
 import static bookface.testutil.TypicalBooks.GET_MOTIVATED;
 import static bookface.testutil.TypicalBooks.HOW_TO_SPELL;
+import static bookface.testutil.TypicalBooks.MAKING_A_COMPUTER;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
 import java.util.List;
@@ -12,6 +15,7 @@ import org.junit.jupiter.api.Test;
 
 import bookface.model.book.exceptions.BookNotFoundException;
 import bookface.model.book.exceptions.DuplicateBookException;
+import bookface.testutil.BookBuilder;
 
 public class BookListTest {
 
@@ -23,6 +27,28 @@ public class BookListTest {
         assertThrows(DuplicateBookException.class, () -> bookList.add(GET_MOTIVATED));
     }
 
+    @Test
+    public void contains_bookWithDifferentTitleCase_returnsTrue() {
+        bookList.add(GET_MOTIVATED);
+        Book differentCase = new BookBuilder(GET_MOTIVATED).withTitle("GET motivated").build();
+        assertTrue(bookList.contains(differentCase));
+    }
+
+    @Test
+    public void contains_deletedBook_returnsFalse() {
+        bookList.add(GET_MOTIVATED);
+        bookList.delete(GET_MOTIVATED);
+        assertFalse(bookList.contains(GET_MOTIVATED));
+    }
+
+    @Test
+    public void setBook_editedBook_replacesBookInIndex() {
+        bookList.add(GET_MOTIVATED);
+        bookList.setBook(GET_MOTIVATED, HOW_TO_SPELL);
+        assertFalse(bookList.contains(GET_MOTIVATED));
+        assertTrue(bookList.contains(HOW_TO_SPELL));
+    }
+
     @Test
     public void setBook_nullTargetBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> bookList.setBook(null, GET_MOTIVATED));
@@ -63,6 +89,18 @@ public class BookListTest {
         assertEquals(expectedBookList, bookList);
     }
 
+    @Test
+    public void setBook_afterDeletingEarlierBook_replacesCorrectPosition() {
+        bookList.add(GET_MOTIVATED);
+        bookList.add(HOW_TO_SPELL);
+        bookList.add(MAKING_A_COMPUTER);
+        bookList.delete(GET_MOTIVATED);
+
+        Book editedBook = new BookBuilder().withTitle("Edited Title").build();
+        bookList.setBook(MAKING_A_COMPUTER, editedBook);
+        assertEquals(List.of(HOW_TO_SPELL, editedBook), bookList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void refreshBookListAfterDeletingPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> bookList.refreshBookListAfterDeletingPerson(null));
@@ -79,6 +117,22 @@ public class BookListTest {
         assertThrows(DuplicateBookException.class, () -> bookList.setBooks(listWithDuplicateBooks));
     }
 
+    @Test
+    public void setBooks_listWithDuplicateBooks_reportsFirstDuplicate() {
+        Book differentCase = new BookBuilder(GET_MOTIVATED).withTitle("get motivated").build();
+        List<Book> listWithDuplicateBooks = Arrays.asList(GET_MOTIVATED, HOW_TO_SPELL, differentCase);
+        assertThrows(DuplicateBookException.class, new DuplicateBookException(differentCase).getMessage(), () ->
+                bookList.setBooks(listWithDuplicateBooks));
+    }
+
+    @Test
+    public void setBooks_list_replacesIndex() {
+        bookList.add(GET_MOTIVATED);
+        bookList.setBooks(List.of(HOW_TO_SPELL));
+        assertFalse(bookList.contains(GET_MOTIVATED));
+        assertTrue(bookList.contains(HOW_TO_SPELL));
+    }
+
     @Test
     public void returnLoanedBook_nullBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> bookList.returnLoanedBook(null));
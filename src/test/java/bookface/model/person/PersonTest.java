@@ -7,11 +7,16 @@ import static bookface.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static bookface.testutil.Assert.assertThrows;
 import static bookface.testutil.TypicalPersons.ALICE;
 import static bookface.testutil.TypicalPersons.BOB;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
+import bookface.model.book.Book;
+import bookface.testutil.BookBuilder;
 import bookface.testutil.PersonBuilder;
 
 public class PersonTest {
@@ -22,6 +27,20 @@ public class PersonTest {
         assertThrows(UnsupportedOperationException.class, () -> person.getTags().remove(0));
     }
 
+    @Test
+    public void getLoanedBooksSet_laterLoanAndReturn_setUnchanged() {
+        Person person = new PersonBuilder().build();
+        Book book = new BookBuilder().build();
+        Set<Book> loanedBooks = person.getLoanedBooksSet();
+
+        person.addLoanedBook(book);
+        assertTrue(loanedBooks.isEmpty());
+        Set<Book> loanedBooksAfterLoan = person.getLoanedBooksSet();
+        person.returnLoanedBook(book);
+        assertEquals(Set.of(book), loanedBooksAfterLoan);
+        assertThrows(UnsupportedOperationException.class, () -> loanedBooksAfterLoan.add(book));
+    }
+
     @Test
     public void isSamePerson() {
         // same object -> returns true
@@ -4,6 +4,7 @@ import static bookface.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static bookface.testutil.Assert.assertThrows;
 import static bookface.testutil.TypicalPersons.ALICE;
 import static bookface.testutil.TypicalPersons.BOB;
+import static bookface.testutil.TypicalPersons.CARL;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -11,11 +12,14 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import bookface.model.person.exceptions.DuplicatePersonException;
 import bookface.model.person.exceptions.PersonNotFoundException;
+import bookface.model.tag.Tag;
 import bookface.testutil.PersonBuilder;
 
 public class UniquePersonListTest {
@@ -46,6 +50,46 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void getPersonByName_personInList_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        assertEquals(Optional.of(ALICE), uniquePersonList.getPersonByName(ALICE.getName()));
+        assertEquals(Optional.empty(), uniquePersonList.getPersonByName(BOB.getName()));
+    }
+
+    @Test
+    public void getPersonByName_afterSetPerson_returnsEditedPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertEquals(Optional.empty(), uniquePersonList.getPersonByName(ALICE.getName()));
+        assertEquals(Optional.of(BOB), uniquePersonList.getPersonByName(BOB.getName()));
+    }
+
+    @Test
+    public void getCandidatesForKeyword_afterSetPerson_matchesEditedDetails() {
+        uniquePersonList.add(ALICE);
+        assertEquals(Set.of(ALICE.getName()), uniquePersonList.getCandidatesForKeyword("9435"));
+        assertEquals(Set.of(ALICE.getName()), uniquePersonList.getCandidatesForKeyword("EXAMPLE"));
+
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertEquals(Collections.emptySet(), uniquePersonList.getCandidatesForKeyword("9435"));
+        assertEquals(Set.of(BOB.getName()), uniquePersonList.getCandidatesForKeyword(BOB.getPhone().value));
+    }
+
+    @Test
+    public void getNamesWithTag_afterSetPersonAndRemove_tracksTags() {
+        Tag husband = new Tag(VALID_TAG_HUSBAND);
+        uniquePersonList.add(ALICE);
+        assertEquals(Collections.emptySet(), uniquePersonList.getNamesWithTag(husband));
+
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertEquals(Set.of(ALICE.getName()), uniquePersonList.getNamesWithTag(husband));
+
+        uniquePersonList.remove(editedAlice);
+        assertEquals(Collections.emptySet(), uniquePersonList.getNamesWithTag(husband));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -118,6 +162,14 @@ public class UniquePersonListTest {
         assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(ALICE));
     }
 
+    @Test
+    public void remove_personWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void remove_existingPerson_removesPerson() {
         uniquePersonList.add(ALICE);
@@ -126,6 +178,19 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setPerson_afterRemovingEarlierPerson_replacesCorrectPosition() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(CARL);
+        uniquePersonList.remove(ALICE);
+
+        Person editedCarl = new PersonBuilder(CARL).withTags(VALID_TAG_HUSBAND).build();
+        uniquePersonList.setPerson(CARL, editedCarl);
+        assertEquals(List.of(BOB, editedCarl), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(Optional.of(editedCarl), uniquePersonList.getPersonByName(CARL.getName()));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -161,6 +226,14 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithDuplicatePersons_reportsFirstDuplicate() {
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, editedAlice);
+        assertThrows(DuplicatePersonException.class, new DuplicatePersonException(editedAlice).getMessage(), () ->
+                uniquePersonList.setPersons(listWithDuplicatePersons));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,193 @@
+package bookface.storage;
+
+import static bookface.testutil.Assert.assertThrows;
+import static bookface.testutil.TypicalPersons.getTypicalBookFaceData;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import bookface.model.BookFace;
+import bookface.model.ReadOnlyBookFace;
+import bookface.model.person.Person;
+import bookface.testutil.BookBuilder;
+import bookface.testutil.PersonBuilder;
+
+public class BackgroundBookFaceSaverTest {
+
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
+
+    @TempDir
+    public Path testFolder;
+
+    private final List<IOException> reportedFailures = new CopyOnWriteArrayList<>();
+    private final ReentrantLock dataLock = new ReentrantLock();
+
+    @Test
+    public void save_thenFlush_latestDataSaved() throws Exception {
+        JsonBookFaceStorage storage = new JsonBookFaceStorage(testFolder.resolve("BookFace.json"));
+        BackgroundBookFaceSaver saver = new BackgroundBookFaceSaver(storage, dataLock, reportedFailures::add);
+        BookFace bookFace = getTypicalBookFaceData();
+
+        saver.save(bookFace);
+        saver.flush();
+        assertEquals(bookFace, storage.readBookFace().get());
+
+        bookFace.addPerson(new PersonBuilder().withName("Saved Person").build());
+        saver.save(bookFace);
+        saver.flush();
+        assertEquals(bookFace, storage.readBookFace().get());
+        assertEquals(List.of(), reportedFailures);
+    }
+
+    @Test
+    public void save_dataLocked_writtenOnceUnlocked() throws Exception {
+        JsonBookFaceStorage storage = new JsonBookFaceStorage(testFolder.resolve("BookFace.json"));
+        BackgroundBookFaceSaver saver = new BackgroundBookFaceSaver(storage, dataLock, reportedFailures::add);
+        BookFace bookFace = getTypicalBookFaceData();
+
+        dataLock.lock();
+        try {
+            saver.save(bookFace);
+            // the write waits for the lock, so the data is not read while it is being changed
+            Thread.sleep(50);
+            assertFalse(Files.exists(storage.getBookFaceFilePath()));
+            bookFace.addPerson(new PersonBuilder().withName("Saved Person").build());
+        } finally {
+            dataLock.unlock();
+        }
+        saver.flush();
+        assertEquals(bookFace, storage.readBookFace().get());
+    }
+
+    @Test
+    public void save_fileBeingWritten_dataUnlocked() throws Exception {
+        BlockingWriteStorageStub storage = new BlockingWriteStorageStub(testFolder.resolve("BookFace.json"));
+        BackgroundBookFaceSaver saver = new BackgroundBookFaceSaver(storage, dataLock, reportedFailures::add);
+        BookFace bookFace = getTypicalBookFaceData();
+
+        saver.save(bookFace);
+        storage.writeStarted.await();
+        assertTrue(dataLock.tryLock());
+        try {
+            bookFace.addPerson(new PersonBuilder().withName("Unsaved Person").build());
+        } finally {
+            dataLock.unlock();
+        }
+
+        storage.writeAllowed.countDown();
+        saver.flush();
+        // the data was encoded before the lock was released, so the change made while writing is not saved
+        assertEquals(getTypicalBookFaceData(), storage.readBookFace().get());
+    }
+
+    @Test
+    public void save_successHandler_runOnlyOnceWritten() throws Exception {
+        BlockingWriteStorageStub storage = new BlockingWriteStorageStub(testFolder.resolve("BookFace.json"));
+        BackgroundBookFaceSaver saver = new BackgroundBookFaceSaver(storage, dataLock, reportedFailures::add);
+        AtomicBoolean isSaved = new AtomicBoolean();
+
+        saver.save(getTypicalBookFaceData(), () -> isSaved.set(true));
+        storage.writeStarted.await();
+        assertFalse(isSaved.get());
+
+        storage.writeAllowed.countDown();
+        saver.flush();
+        assertTrue(isSaved.get());
+    }
+
+    @Test
+    public void save_writeFailed_successHandlerNotRun() throws Exception {
+        JsonBookFaceStorage storage = new JsonBookFaceStorage(testFolder.resolve("BookFace.json")) {
+            @Override
+            public BookFaceWrite prepareSaveBookFace(ReadOnlyBookFace bookFace) {
+                return () -> {
+                    throw DUMMY_IO_EXCEPTION;
+                };
+            }
+        };
+        BackgroundBookFaceSaver saver = new BackgroundBookFaceSaver(storage, dataLock, reportedFailures::add);
+        AtomicBoolean isSaved = new AtomicBoolean();
+
+        saver.save(new BookFace(), () -> isSaved.set(true));
+        assertThrows(IOException.class, saver::flush);
+        assertFalse(isSaved.get());
+    }
+
+    @Test
+    public void flush_inconsistentLoans_throwsIoExceptionAndReportsFailure() throws Exception {
+        JsonBookFaceStorage storage = new JsonBookFaceStorage(testFolder.resolve("BookFace.json"));
+        BackgroundBookFaceSaver saver = new BackgroundBookFaceSaver(storage, dataLock, reportedFailures::add);
+        BookFace bookFace = new BookFace();
+        Person amy = new PersonBuilder().build();
+        bookFace.addPerson(amy);
+        amy.addLoanedBook(new BookBuilder().build());
+
+        saver.save(bookFace);
+        assertThrows(IOException.class, saver::flush);
+        assertEquals(1, reportedFailures.size());
+        assertFalse(Files.exists(storage.getBookFaceFilePath()));
+    }
+
+    @Test
+    public void flush_writeFailed_throwsIoExceptionAndReportsFailure() throws Exception {
+        JsonBookFaceStorage storage = new JsonBookFaceStorage(testFolder.resolve("BookFace.json")) {
+            @Override
+            public BookFaceWrite prepareSaveBookFace(ReadOnlyBookFace bookFace) {
+                return () -> {
+                    throw DUMMY_IO_EXCEPTION;
+                };
+            }
+        };
+        BackgroundBookFaceSaver saver = new BackgroundBookFaceSaver(storage, dataLock, reportedFailures::add);
+
+        saver.save(new BookFace());
+        assertThrows(IOException.class, saver::flush);
+        assertEquals(List.of(DUMMY_IO_EXCEPTION), reportedFailures);
+
+        // the failure is only reported by flush once
+        saver.flush();
+    }
+
+    /**
+     * A stub class whose writes wait for {@code writeAllowed} once the data has been encoded.
+     */
+    private static class BlockingWriteStorageStub extends JsonBookFaceStorage {
+        private final CountDownLatch writeStarted = new CountDownLatch(1);
+        private final CountDownLatch writeAllowed = new CountDownLatch(1);
+
+        private BlockingWriteStorageStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public BookFaceWrite prepareSaveBookFace(ReadOnlyBookFace bookFace) {
+            BookFaceWrite write = super.prepareSaveBookFace(bookFace);
+            return () -> awaitWriteAllowed(write.encode());
+        }
+
+        private BookFaceWrite.FileWrite awaitWriteAllowed(BookFaceWrite.FileWrite fileWrite) {
+            return () -> {
+                writeStarted.countDown();
+                try {
+                    writeAllowed.await();
+                } catch (InterruptedException ie) {
+                    throw new InterruptedIOException();
+                }
+                fileWrite.write();
+            };
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package bookface.storage;
+
+import static bookface.testutil.Assert.assertThrows;
+import static bookface.testutil.TypicalPersons.ALICE;
+import static bookface.testutil.TypicalPersons.HOON;
+import static bookface.testutil.TypicalPersons.getAllTypicalBookFaceData;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import bookface.commons.exceptions.DataConversionException;
+import bookface.commons.util.FileUtil;
+import bookface.model.BookFace;
+import bookface.model.ReadOnlyBookFace;
+import bookface.model.book.Book;
+import bookface.model.person.Person;
+import bookface.testutil.BookBuilder;
+import bookface.testutil.PersonBuilder;
+
+public class BinaryBookFaceStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getBinaryFilePath_jsonFilePath_extensionReplaced() {
+        assertEquals(Paths.get("data", "bookface.bin"),
+                BinaryBookFaceStorage.getBinaryFilePath(Paths.get("data", "bookface.json")));
+        assertEquals(Paths.get("data", "bookface.bin"),
+                BinaryBookFaceStorage.getBinaryFilePath(Paths.get("data", "bookface")));
+    }
+
+    @Test
+    public void readBookFace_missingFiles_emptyResult() throws Exception {
+        assertFalse(new BinaryBookFaceStorage(testFolder.resolve("bookface.json")).readBookFace().isPresent());
+    }
+
+    @Test
+    public void readAndSaveBookFace_withLoans_success() throws Exception {
+        BinaryBookFaceStorage storage = new BinaryBookFaceStorage(testFolder.resolve("bookface.json"));
+        BookFace original = getBookFaceWithLoan();
+
+        storage.saveBookFace(original);
+        assertTrue(Files.exists(testFolder.resolve("bookface.bin")));
+        assertSameData(original, storage.readBookFace().get());
+
+        // Modify data, overwrite existing file, and read back
+        original.addPerson(HOON);
+        storage.saveBookFace(original);
+        assertSameData(original, storage.readBookFace().get());
+    }
+
+    @Test
+    public void prepareSaveBookFace_changesBeforeWrite_written() throws Exception {
+        BinaryBookFaceStorage storage = new BinaryBookFaceStorage(testFolder.resolve("bookface.json"));
+        BookFace original = getBookFaceWithLoan();
+        BookFaceWrite write = storage.prepareSaveBookFace(original);
+        // the data is encoded when it is written, rather than when the write is prepared
+        original.addPerson(HOON);
+
+        write.write();
+        assertEquals(original, new BookFace(storage.readBookFace().get()));
+    }
+
+    @Test
+    public void readBookFace_onlyJsonFile_importedFromJson() throws Exception {
+        Path jsonFilePath = testFolder.resolve("bookface.json");
+        BookFace original = getBookFaceWithLoan();
+        new JsonBookFaceStorage(jsonFilePath).saveBookFace(original);
+
+        BinaryBookFaceStorage storage = new BinaryBookFaceStorage(jsonFilePath);
+        assertSameData(original, storage.readBookFace().get());
+        assertFalse(Files.exists(storage.getBookFaceFilePath()));
+    }
+
+    @Test
+    public void exportJson_thenImportJson_sameData() throws Exception {
+        Path jsonFilePath = testFolder.resolve("export.json");
+        BinaryBookFaceStorage storage = new BinaryBookFaceStorage(testFolder.resolve("bookface.json"));
+        BookFace original = getBookFaceWithLoan();
+
+        storage.exportJson(original, jsonFilePath);
+        assertSameData(original, storage.importJson(jsonFilePath).get());
+    }
+
+    @Test
+    public void readBookFace_jsonFileSavedLater_importedFromJson() throws Exception {
+        Path jsonFilePath = testFolder.resolve("bookface.json");
+        BinaryBookFaceStorage storage = new BinaryBookFaceStorage(jsonFilePath);
+        BookFace original = getBookFaceWithLoan();
+        storage.saveBookFace(original);
+        BookFace modified = new BookFace(original);
+        modified.removePerson(ALICE);
+        new JsonBookFaceStorage(jsonFilePath).saveBookFace(modified);
+        setSavedTime(storage.getBookFaceFilePath(), 1);
+        setSavedTime(jsonFilePath, 2);
+
+        assertSameData(modified, storage.readBookFace().get());
+    }
+
+    @Test
+    public void exportJsonIfNewer_binaryFileSavedLater_exported() throws Exception {
+        Path jsonFilePath = testFolder.resolve("bookface.json");
+        JournaledBookFaceStorage jsonStorage = new JournaledBookFaceStorage(jsonFilePath);
+        BookFace jsonData = new BookFace();
+        jsonStorage.saveBookFace(jsonData);
+        jsonData.addPerson(HOON);
+        jsonStorage.saveBookFace(jsonData);
+        BinaryBookFaceStorage storage = new BinaryBookFaceStorage(jsonFilePath);
+        BookFace original = getBookFaceWithLoan();
+        storage.saveBookFace(original);
+        setSavedTime(jsonFilePath, 1);
+        setSavedTime(storage.getBookFaceFilePath(), 2);
+
+        assertTrue(storage.exportJsonIfNewer());
+        assertFalse(Files.exists(JournaledBookFaceStorage.getJournalFilePath(jsonFilePath)));
+        assertSameData(original, new JournaledBookFaceStorage(jsonFilePath).readBookFace().get());
+    }
+
+    @Test
+    public void exportJsonIfNewer_jsonFileSavedLater_notExported() throws Exception {
+        Path jsonFilePath = testFolder.resolve("bookface.json");
+        BinaryBookFaceStorage storage = new BinaryBookFaceStorage(jsonFilePath);
+        storage.saveBookFace(getBookFaceWithLoan());
+        BookFace jsonData = new BookFace();
+        jsonData.addPerson(HOON);
+        new JournaledBookFaceStorage(jsonFilePath).saveBookFace(jsonData);
+        setSavedTime(storage.getBookFaceFilePath(), 1);
+        setSavedTime(jsonFilePath, 2);
+
+        assertFalse(storage.exportJsonIfNewer());
+        assertSameData(jsonData, new JournaledBookFaceStorage(jsonFilePath).readBookFace().get());
+    }
+
+    @Test
+    public void switchFormat_bothDirections_changesKept() throws Exception {
+        Path jsonFilePath = testFolder.resolve("bookface.json");
+        BookFace bookFace = getBookFaceWithLoan();
+        JournaledBookFaceStorage jsonStorage = new JournaledBookFaceStorage(jsonFilePath);
+        jsonStorage.saveBookFace(bookFace);
+        bookFace.removePerson(ALICE);
+        jsonStorage.saveBookFace(bookFace);
+        setSavedTime(jsonFilePath, 1);
+
+        // switched to binary, which picks up the json data along with its journal
+        BinaryBookFaceStorage binaryStorage = new BinaryBookFaceStorage(jsonFilePath);
+        assertSameData(bookFace, binaryStorage.readBookFace().get());
+        bookFace.addPerson(HOON);
+        binaryStorage.saveBookFace(bookFace);
+        setSavedTime(binaryStorage.getBookFaceFilePath(), 2);
+
+        // switched back to json
+        assertTrue(binaryStorage.exportJsonIfNewer());
+        jsonStorage = new JournaledBookFaceStorage(jsonFilePath);
+        assertSameData(bookFace, jsonStorage.readBookFace().get());
+        bookFace.removePerson(HOON);
+        jsonStorage.saveBookFace(bookFace);
+        setSavedTime(jsonFilePath, 3);
+
+        // switched to binary again
+        assertSameData(bookFace, new BinaryBookFaceStorage(jsonFilePath).readBookFace().get());
+    }
+
+    @Test
+    public void readBookFace_corruptedFile_previousVersionRecovered() throws Exception {
+        BinaryBookFaceStorage storage = new BinaryBookFaceStorage(testFolder.resolve("bookface.json"));
+        BookFace original = getBookFaceWithLoan();
+        storage.saveBookFace(original);
+        BookFace modified = new BookFace(original);
+        modified.removePerson(ALICE);
+        storage.saveBookFace(modified);
+
+        Path filePath = storage.getBookFaceFilePath();
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(filePath, bytes);
+        assertSameData(original, storage.readBookFace().get());
+    }
+
+    @Test
+    public void readBookFace_corruptedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("bookface.bin");
+        BinaryBookFaceStorage storage = new BinaryBookFaceStorage(testFolder.resolve("bookface.json"));
+        storage.saveBookFace(getBookFaceWithLoan());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(filePath, bytes);
+
+        assertThrows(DataConversionException.class, () -> storage.readBookFace(filePath));
+    }
+
+    @Test
+    public void readBookFace_notBinaryFormat_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("bookface.bin");
+        Files.writeString(filePath, "{ \"persons\" : [ ] }");
+
+        assertThrows(DataConversionException.class, () ->
+                new BinaryBookFaceStorage(testFolder.resolve("bookface.json")).readBookFace(filePath));
+    }
+
+    @Test
+    public void saveBookFace_nullBookFace_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryBookFaceStorage(testFolder.resolve("bookface.json")).saveBookFace(null));
+    }
+
+    /**
+     * Returns the typical BookFace data with a new person borrowing a new book, so that the typical persons and
+     * books shared with other tests are not loaned.
+     */
+    private static BookFace getBookFaceWithLoan() {
+        BookFace bookFace = getAllTypicalBookFaceData();
+        Person loanee = new PersonBuilder().withName("Binary Loanee").withTags("friends").build();
+        Book book = new BookBuilder().withTitle("Binary Search").withAuthor("Lim Chee Teck").build();
+        bookFace.addPerson(loanee);
+        bookFace.addBook(book);
+        bookFace.loan(loanee, book, new Date());
+        return bookFace;
+    }
+
+    /**
+     * Sets the time the data file {@code filePath}, along with its previous version and journal, was last saved to
+     * {@code seconds} after the epoch, as files saved in quick succession can have the same modification time.
+     */
+    private static void setSavedTime(Path filePath, long seconds) throws IOException {
+        for (Path path : List.of(filePath, FileUtil.getBackupPath(filePath),
+                JournaledBookFaceStorage.getJournalFilePath(filePath))) {
+            if (Files.exists(path)) {
+                Files.setLastModifiedTime(path, FileTime.from(Instant.ofEpochSecond(seconds)));
+            }
+        }
+    }
+
+    private static void assertSameData(ReadOnlyBookFace expected, ReadOnlyBookFace actual) {
+        assertEquals(expected, new BookFace(actual));
+        assertEquals(describeBooks(expected), describeBooks(actual));
+    }
+
+    private static List<String> describeBooks(ReadOnlyBookFace bookFace) {
+        return bookFace.getBookList().stream()
+                .map(book -> book + " " + book.getReturnDateString().orElse("") + " "
+                        + book.getLoanee().map(Person::getName).map(Object::toString).orElse(""))
+                .sorted()
+                .collect(Collectors.toList());
+    }
+}
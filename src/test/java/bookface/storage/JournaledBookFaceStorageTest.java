@@ -0,0 +1,194 @@
+package bookface.storage;
+
+import static bookface.testutil.Assert.assertThrows;
+import static bookface.testutil.TypicalDates.TYPICAL_DATE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import bookface.commons.exceptions.DataConversionException;
+import bookface.commons.util.JsonUtil;
+import bookface.model.BookFace;
+import bookface.model.ReadOnlyBookFace;
+import bookface.model.book.Book;
+import bookface.model.person.Person;
+import bookface.testutil.BookBuilder;
+import bookface.testutil.PersonBuilder;
+
+public class JournaledBookFaceStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalFilePath;
+    private BookFace bookFace;
+    private Person amy;
+    private Book spelling;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        filePath = testFolder.resolve("BookFace.json");
+        journalFilePath = JournaledBookFaceStorage.getJournalFilePath(filePath);
+        amy = new PersonBuilder().build();
+        spelling = new BookBuilder().build();
+        bookFace = new BookFace();
+        bookFace.addPerson(amy);
+        bookFace.addBook(spelling);
+    }
+
+    @Test
+    public void saveBookFace_firstSave_writesWholeFile() throws Exception {
+        new JournaledBookFaceStorage(filePath).saveBookFace(bookFace);
+        assertFalse(Files.exists(journalFilePath));
+        assertSameData(bookFace, new JsonBookFaceStorage(filePath).readBookFace().get());
+    }
+
+    @Test
+    public void saveBookFace_changesAfterFirstSave_journaledAndReplayed() throws Exception {
+        JournaledBookFaceStorage storage = new JournaledBookFaceStorage(filePath);
+        storage.saveBookFace(bookFace);
+        String snapshot = Files.readString(filePath);
+
+        Person bob = new PersonBuilder().withName("Bob Choo").withPhone("22222222").build();
+        bookFace.addPerson(bob);
+        Book motivation = new BookBuilder().withTitle("Get Motivated").withAuthor("Tom Lee").build();
+        bookFace.addBook(motivation);
+        storage.saveBookFace(bookFace);
+
+        Person renamedAmy = new PersonBuilder(amy).withName("Amy Tan").build();
+        bookFace.setPerson(amy, renamedAmy);
+        bookFace.loan(renamedAmy, spelling, TYPICAL_DATE);
+        bookFace.loan(bob, motivation, TYPICAL_DATE);
+        storage.saveBookFace(bookFace);
+
+        bookFace.returnLoanedBook(motivation);
+        bookFace.deleteBook(motivation);
+        storage.saveBookFace(bookFace);
+
+        // the data file itself is left untouched
+        assertEquals(snapshot, Files.readString(filePath));
+        assertTrue(Files.exists(journalFilePath));
+        assertSameData(bookFace, new JournaledBookFaceStorage(filePath).readBookFace().get());
+    }
+
+    @Test
+    public void saveBookFace_loanedBookEdited_journaledAndReplayed() throws Exception {
+        JournaledBookFaceStorage storage = new JournaledBookFaceStorage(filePath);
+        storage.saveBookFace(bookFace);
+        bookFace.loan(amy, spelling, TYPICAL_DATE);
+        storage.saveBookFace(bookFace);
+
+        Book editedSpelling = new BookBuilder(spelling).withTitle("Spelling Again").build();
+        bookFace.setBook(spelling, editedSpelling);
+        storage.saveBookFace(bookFace);
+
+        assertTrue(Files.exists(journalFilePath));
+        assertSameData(bookFace, new JournaledBookFaceStorage(filePath).readBookFace().get());
+    }
+
+    @Test
+    public void saveBookFace_thresholdReached_journalCompacted() throws Exception {
+        JournaledBookFaceStorage storage = new JournaledBookFaceStorage(filePath, 2);
+        storage.saveBookFace(bookFace);
+
+        bookFace.addPerson(new PersonBuilder().withName("Bob Choo").build());
+        storage.saveBookFace(bookFace);
+        assertTrue(Files.exists(journalFilePath));
+
+        bookFace.deleteBook(spelling);
+        storage.saveBookFace(bookFace);
+        assertFalse(Files.exists(journalFilePath));
+        assertSameData(bookFace, new JsonBookFaceStorage(filePath).readBookFace().get());
+    }
+
+    @Test
+    public void saveBookFace_dataReset_wholeFileWritten() throws Exception {
+        JournaledBookFaceStorage storage = new JournaledBookFaceStorage(filePath);
+        bookFace.addPerson(new PersonBuilder().withName("Bob Choo").build());
+        storage.saveBookFace(bookFace);
+
+        bookFace.resetData(new BookFace());
+        storage.saveBookFace(bookFace);
+        assertFalse(Files.exists(journalFilePath));
+        assertSameData(bookFace, storage.readBookFace().get());
+    }
+
+    @Test
+    public void prepareSaveBookFace_earlierWriteSkipped_laterWriteSavesBoth() throws Exception {
+        JournaledBookFaceStorage storage = new JournaledBookFaceStorage(filePath);
+        storage.saveBookFace(bookFace);
+
+        bookFace.addPerson(new PersonBuilder().withName("Bob Choo").build());
+        storage.prepareSaveBookFace(bookFace);
+        bookFace.deleteBook(spelling);
+        storage.prepareSaveBookFace(bookFace).write();
+
+        assertSameData(bookFace, new JournaledBookFaceStorage(filePath).readBookFace().get());
+    }
+
+    @Test
+    public void readBookFace_incompleteLastEntry_entryIgnored() throws Exception {
+        JournaledBookFaceStorage storage = new JournaledBookFaceStorage(filePath);
+        storage.saveBookFace(bookFace);
+        bookFace.addPerson(new PersonBuilder().withName("Bob Choo").build());
+        storage.saveBookFace(bookFace);
+        appendToJournal("{\"type\":\"person\",\"oper");
+
+        assertSameData(bookFace, new JournaledBookFaceStorage(filePath).readBookFace().get());
+    }
+
+    @Test
+    public void readBookFace_invalidEarlierEntry_throwsDataConversionException() throws Exception {
+        JournaledBookFaceStorage storage = new JournaledBookFaceStorage(filePath);
+        storage.saveBookFace(bookFace);
+        appendToJournal("not a journal entry" + System.lineSeparator());
+        bookFace.addPerson(new PersonBuilder().withName("Bob Choo").build());
+        storage.saveBookFace(bookFace);
+
+        assertThrows(DataConversionException.class, () -> new JournaledBookFaceStorage(filePath).readBookFace());
+    }
+
+    @Test
+    public void readBookFace_corruptedFile_previousVersionRecoveredWithoutJournal() throws Exception {
+        new JournaledBookFaceStorage(filePath).saveBookFace(bookFace);
+        BookFace previousVersion = new BookFace(bookFace);
+        // a new storage writes the whole file on its first save, keeping the file above as the previous version
+        JournaledBookFaceStorage storage = new JournaledBookFaceStorage(filePath);
+        bookFace.addPerson(new PersonBuilder().withName("Bob Choo").build());
+        storage.saveBookFace(bookFace);
+        bookFace.addPerson(new PersonBuilder().withName("Carl Kurz").build());
+        storage.saveBookFace(bookFace);
+        assertTrue(Files.exists(journalFilePath));
+
+        Files.writeString(filePath, "not json");
+        assertSameData(previousVersion, new JournaledBookFaceStorage(filePath).readBookFace().get());
+    }
+
+    @Test
+    public void readBookFace_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournaledBookFaceStorage(filePath).readBookFace().isPresent());
+    }
+
+    private void appendToJournal(String text) throws Exception {
+        Files.write(journalFilePath, text.getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Asserts that {@code expected} and {@code actual} hold the same persons, books and loans, in the same order.
+     */
+    private static void assertSameData(ReadOnlyBookFace expected, ReadOnlyBookFace actual) throws Exception {
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableBookFace(expected)),
+                JsonUtil.toJsonString(new JsonSerializableBookFace(actual)));
+    }
+}
@@ -0,0 +1,181 @@
+package bookface.storage;
+
+import static bookface.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import bookface.commons.exceptions.DataConversionException;
+import bookface.commons.util.JsonUtil;
+import bookface.model.BookFace;
+import bookface.model.book.Book;
+import bookface.model.person.Person;
+import bookface.testutil.BookBuilder;
+import bookface.testutil.PersonBuilder;
+import bookface.testutil.TypicalPersons;
+
+public class JsonBookFaceReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableBookFaceTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsBookFace.json");
+    private static final Path TYPICAL_BOOKS_FILE = TEST_DATA_FOLDER.resolve("typicalBooksBookFace.json");
+    private static final Path DUPLICATE_BOOK_FILE = TEST_DATA_FOLDER.resolve("duplicateBookBookFace.json");
+    private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonBookFace.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readBookFace_typicalFiles_sameAsWholeFileConversion() throws Exception {
+        assertEquals(TypicalPersons.getTypicalBookFaceData(),
+                JsonBookFaceReader.readBookFace(TYPICAL_PERSONS_FILE).get());
+
+        BookFace expected = JsonUtil.readJsonFile(TYPICAL_BOOKS_FILE, JsonSerializableBookFace.class).get()
+                .toModelType();
+        BookFace actual = new BookFace(JsonBookFaceReader.readBookFace(TYPICAL_BOOKS_FILE).get());
+        assertEquals(expected.getBookList(), actual.getBookList());
+    }
+
+    @Test
+    public void readBookFace_missingFile_emptyResult() throws Exception {
+        assertFalse(JsonBookFaceReader.readBookFace(testFolder.resolve("missing.json")).isPresent());
+    }
+
+    @Test
+    public void readBookFace_invalidRecords_throwsDataConversionException() {
+        assertThrows(DataConversionException.class, () -> JsonBookFaceReader.readBookFace(DUPLICATE_BOOK_FILE));
+        assertThrows(DataConversionException.class, () -> JsonBookFaceReader.readBookFace(INVALID_PERSON_FILE));
+    }
+
+    @Test
+    public void readBookFace_unknownFields_ignored() throws Exception {
+        Path file = testFolder.resolve("unknownFields.json");
+        Files.writeString(file, "{ \"version\" : { \"major\" : 1 }, \"persons\" : [ ], \"books\" : [ {"
+                + " \"title\" : \"How to Spell\", \"author\" : \"Ronald Johnson\", \"returnDate\" : \"\","
+                + " \"isLoaned\" : false, \"edition\" : 2 } ] }");
+        assertEquals(1, JsonBookFaceReader.readBookFace(file).get().getBookList().size());
+    }
+
+    @Test
+    public void readBookFace_version2File_loansJoined() throws Exception {
+        Path file = testFolder.resolve("version2.json");
+        Files.writeString(file, "{ \"formatVersion\" : 2,"
+                + " \"loans\" : [ { \"bookId\" : 1, \"personId\" : 0, \"returnDate\" : \"2022-10-18\" } ],"
+                + " \"books\" : [ { \"title\" : \"How to Spell\", \"author\" : \"Ronald Johnson\" },"
+                + " { \"title\" : \"Get Motivated\", \"author\" : \"Lim Chee Teck\" } ],"
+                + " \"persons\" : [ { \"name\" : \"Alice Pauline\", \"phone\" : \"94351253\","
+                + " \"email\" : \"alice@example.com\", \"tagged\" : [ \"friends\" ] } ] }");
+
+        BookFace bookFace = new BookFace(JsonBookFaceReader.readBookFace(file).get());
+        Person alice = bookFace.getPersonList().get(0);
+        assertEquals(1, alice.getLoanedBooksSet().size());
+        Book loanedBook = alice.getLoanedBooksSet().iterator().next();
+        assertEquals("Get Motivated", loanedBook.getTitle().bookTitle);
+        assertEquals(Optional.of(alice), bookFace.getLoanee(loanedBook));
+        assertEquals(2, bookFace.getBookList().size());
+    }
+
+    @Test
+    public void readRecords_version2File_recordsPassedOnAsRead() throws Exception {
+        Path file = testFolder.resolve("truncatedVersion2.json");
+        Files.writeString(file, "{ \"formatVersion\" : 2,"
+                + " \"loans\" : [ { \"bookId\" : 0, \"personId\" : 0, \"returnDate\" : \"2022-10-18\" } ],"
+                + " \"books\" : [ { \"title\" : \"Get Motivated\", \"author\" : \"Lim Chee Teck\" },"
+                + " { \"title\" : \"How to Spell\", \"author\" : \"Ronald Johnson\" } ],"
+                + " \"persons\" : [ { \"name\" : \"Alice Pauline\", \"phone\" : \"94351253\","
+                + " \"email\" : \"alice@example.com\" }, { \"name\" : ");
+        List<String> handledRecords = new ArrayList<>();
+        JsonBookFaceReader.RecordHandler handler = new JsonBookFaceReader.RecordHandler() {
+            @Override
+            public void handlePerson(JsonAdaptedPerson person, int index) {
+                handledRecords.add(person.getName() + " " + person.getLoanedBooks().size());
+            }
+
+            @Override
+            public void handleBook(JsonAdaptedBook book, int index) {
+                handledRecords.add(book.getIdentityKey());
+            }
+        };
+
+        // the records before the end of the truncated file are passed on without waiting for the rest of it
+        assertThrows(DataConversionException.class, () -> JsonBookFaceReader.readRecords(file, handler));
+        assertEquals(List.of(JsonAdaptedBook.identityKeyOf(new BookBuilder().withTitle("How to Spell")
+                .withAuthor("Ronald Johnson").build()), "Alice Pauline 1"), handledRecords);
+    }
+
+    @Test
+    public void readBookFace_writtenFile_sameData() throws Exception {
+        Path file = testFolder.resolve("written.json");
+        BookFace original = TypicalPersons.getTypicalBookFaceData();
+        Person loanee = new PersonBuilder().withName("Reader Loanee").build();
+        Book book = new BookBuilder().withTitle("Reading Lists").build();
+        original.addPerson(loanee);
+        original.addBook(book);
+        original.loan(loanee, book, new Date());
+        try (OutputStream out = Files.newOutputStream(file)) {
+            JsonBookFaceWriter.write(original, out, false);
+        }
+
+        BookFace readBack = new BookFace(JsonBookFaceReader.readBookFace(file).get());
+        assertEquals(original, readBack);
+        assertEquals(original.getBookList().size(), readBack.getBookList().size());
+        assertEquals(2, JsonBookFaceReader.readFormatVersion(file));
+    }
+
+    @Test
+    public void readBookFace_invalidVersion2File_throwsDataConversionException() throws Exception {
+        Path file = testFolder.resolve("invalid.json");
+        String books = " \"books\" : [ { \"title\" : \"How to Spell\", \"author\" : \"Ronald Johnson\" } ]";
+        String persons = " \"persons\" : [ { \"name\" : \"Alice Pauline\", \"phone\" : \"94351253\","
+                + " \"email\" : \"alice@example.com\" } ]";
+        String loan = "{ \"bookId\" : 0, \"personId\" : 0, \"returnDate\" : \"2022-10-18\" }";
+
+        // book loaned twice
+        Files.writeString(file, "{ \"formatVersion\" : 2, \"loans\" : [ " + loan + ", " + loan + " ],"
+                + books + "," + persons + " }");
+        assertThrows(DataConversionException.class, () -> JsonBookFaceReader.readBookFace(file));
+
+        // loan of a book that does not exist
+        Files.writeString(file, "{ \"formatVersion\" : 2, \"loans\" : [ " + loan + " ]," + persons + " }");
+        assertThrows(DataConversionException.class, () -> JsonBookFaceReader.readBookFace(file));
+
+        // loan of a person that does not exist
+        Files.writeString(file, "{ \"formatVersion\" : 2, \"loans\" : [ " + loan + " ]," + books + " }");
+        assertThrows(DataConversionException.class, () -> JsonBookFaceReader.readBookFace(file));
+
+        // loans after the tables they refer to
+        Files.writeString(file, "{ \"formatVersion\" : 2," + books + "," + persons + ", \"loans\" : [ " + loan
+                + " ] }");
+        assertThrows(DataConversionException.class, () -> JsonBookFaceReader.readBookFace(file));
+
+        // unsupported version
+        Files.writeString(file, "{ \"formatVersion\" : 3, \"loans\" : [ ]," + books + "," + persons + " }");
+        assertThrows(DataConversionException.class, () -> JsonBookFaceReader.readBookFace(file));
+
+        // version recorded after the records it applies to
+        Files.writeString(file, "{" + persons + "," + books + ", \"formatVersion\" : 2 }");
+        assertThrows(DataConversionException.class, () -> JsonBookFaceReader.readBookFace(file));
+    }
+
+    @Test
+    public void readBookFace_truncatedFile_throwsDataConversionException() throws Exception {
+        Path file = testFolder.resolve("truncated.json");
+        String content = Files.readString(TYPICAL_PERSONS_FILE);
+        Files.writeString(file, content.substring(0, content.length() / 2));
+        assertThrows(DataConversionException.class, () -> JsonBookFaceReader.readBookFace(file));
+
+        Files.writeString(file, "[ ]");
+        assertThrows(DataConversionException.class, () -> JsonBookFaceReader.readBookFace(file));
+    }
+}
@@ -7,17 +7,26 @@ import static bookface.testutil.TypicalPersons.IDA;
 import static bookface.testutil.TypicalPersons.getTypicalBookFaceData;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Date;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import bookface.commons.exceptions.DataConversionException;
+import bookface.commons.util.FileUtil;
+import bookface.commons.util.JsonUtil;
 import bookface.model.BookFace;
 import bookface.model.ReadOnlyBookFace;
+import bookface.model.book.Book;
+import bookface.model.person.Person;
+import bookface.testutil.BookBuilder;
+import bookface.testutil.PersonBuilder;
 
 public class JsonBookFaceStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonBookFaceStorageTest");
@@ -86,6 +95,69 @@ public class JsonBookFaceStorageTest {
 
     }
 
+    @Test
+    public void saveBookFace_defaultMode_indentedCurrentVersion() throws Exception {
+        Path filePath = testFolder.resolve("TempBookFace.json");
+        BookFace original = getTypicalBookFaceData();
+        new JsonBookFaceStorage(filePath).saveBookFace(original);
+        assertTrue(Files.readAllLines(filePath).size() > 1);
+        assertEquals(JsonBookFaceReader.FORMAT_VERSION, JsonBookFaceReader.readFormatVersion(filePath));
+    }
+
+    @Test
+    public void readBookFace_version1File_migratedToCurrentVersion() throws Exception {
+        Path filePath = testFolder.resolve("TempBookFace.json");
+        BookFace original = getTypicalBookFaceData();
+        Person loanee = new PersonBuilder().withName("Version Loanee").build();
+        Book book = new BookBuilder().withTitle("Version Control").build();
+        original.addPerson(loanee);
+        original.addBook(book);
+        original.loan(loanee, book, new Date());
+        String version1Content = JsonUtil.toJsonString(new JsonSerializableBookFace(original));
+        Files.writeString(filePath, version1Content);
+
+        JsonBookFaceStorage jsonBookFaceStorage = new JsonBookFaceStorage(filePath);
+        assertEquals(original, new BookFace(jsonBookFaceStorage.readBookFace().get()));
+        assertEquals(JsonBookFaceReader.FORMAT_VERSION, JsonBookFaceReader.readFormatVersion(filePath));
+        assertEquals(version1Content, Files.readString(FileUtil.getBackupPath(filePath)));
+
+        BookFace readBack = new BookFace(jsonBookFaceStorage.readBookFace().get());
+        assertEquals(original, readBack);
+        assertEquals(book.getReturnDateString(), readBack.getBookList().stream()
+                .filter(book::equals).findFirst().get().getReturnDateString());
+    }
+
+    @Test
+    public void saveBookFace_compactMode_singleLineReadBack() throws Exception {
+        Path filePath = testFolder.resolve("TempBookFace.json");
+        BookFace original = getTypicalBookFaceData();
+        JsonBookFaceStorage jsonBookFaceStorage = new JsonBookFaceStorage(filePath, true);
+        jsonBookFaceStorage.saveBookFace(original);
+
+        assertEquals(1, Files.readAllLines(filePath).size());
+        assertEquals(original, new BookFace(jsonBookFaceStorage.readBookFace().get()));
+    }
+
+    @Test
+    public void readBookFace_truncatedFile_previousVersionRecovered() throws Exception {
+        Path filePath = testFolder.resolve("TempBookFace.json");
+        BookFace original = getTypicalBookFaceData();
+        JsonBookFaceStorage jsonBookFaceStorage = new JsonBookFaceStorage(filePath);
+        jsonBookFaceStorage.saveBookFace(original);
+        BookFace modified = new BookFace(original);
+        modified.addPerson(HOON);
+        jsonBookFaceStorage.saveBookFace(modified);
+
+        // data file cut short by a crash
+        String content = Files.readString(filePath);
+        Files.writeString(filePath, content.substring(0, content.length() / 2));
+        assertEquals(original, new BookFace(jsonBookFaceStorage.readBookFace().get()));
+
+        // data file lost by a crash
+        Files.delete(filePath);
+        assertEquals(original, new BookFace(jsonBookFaceStorage.readBookFace().get()));
+    }
+
     @Test
     public void saveBookFace_nullBookFace_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveBookFace(null, "SomeFile.json"));
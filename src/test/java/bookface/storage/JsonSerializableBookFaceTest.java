@@ -48,8 +48,8 @@ public class JsonSerializableBookFaceTest {
     public void toModelType_duplicatePersons_throwsIllegalValueException() throws Exception {
         JsonSerializableBookFace dataFromFile = JsonUtil.readJsonFile(DUPLICATE_PERSON_FILE,
                 JsonSerializableBookFace.class).get();
-        assertThrows(IllegalValueException.class, JsonSerializableBookFace.MESSAGE_DUPLICATE_PERSON,
-                dataFromFile::toModelType);
+        assertThrows(IllegalValueException.class, String.format(ParallelRecordDecoder.MESSAGE_INVALID_RECORD,
+                "person", 2, JsonSerializableBookFace.MESSAGE_DUPLICATE_PERSON), dataFromFile::toModelType);
     }
 
     @Test
@@ -72,8 +72,8 @@ public class JsonSerializableBookFaceTest {
     public void toModelType_duplicateBooks_throwsIllegalValueException() throws Exception {
         JsonSerializableBookFace dataFromFile = JsonUtil.readJsonFile(DUPLICATE_BOOK_FILE,
                 JsonSerializableBookFace.class).get();
-        assertThrows(IllegalValueException.class, JsonSerializableBookFace.MESSAGE_DUPLICATE_BOOK,
-                dataFromFile::toModelType);
+        assertThrows(IllegalValueException.class, String.format(ParallelRecordDecoder.MESSAGE_INVALID_RECORD,
+                "book", 2, JsonSerializableBookFace.MESSAGE_DUPLICATE_BOOK), dataFromFile::toModelType);
     }
 
 }
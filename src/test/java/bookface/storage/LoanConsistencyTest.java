@@ -0,0 +1,58 @@
+package bookface.storage;
+
+import static bookface.testutil.Assert.assertThrows;
+import static bookface.testutil.TypicalDates.TYPICAL_DATE;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import bookface.model.BookFace;
+import bookface.model.book.Book;
+import bookface.model.person.Person;
+import bookface.testutil.BookBuilder;
+import bookface.testutil.PersonBuilder;
+
+public class LoanConsistencyTest {
+
+    private BookFace bookFace;
+    private Person amy;
+    private Book spelling;
+
+    @BeforeEach
+    public void setUp() {
+        amy = new PersonBuilder().build();
+        spelling = new BookBuilder().build();
+        bookFace = new BookFace();
+        bookFace.addPerson(amy);
+        bookFace.addBook(spelling);
+    }
+
+    @Test
+    public void check_consistentLoan_noExceptionThrown() {
+        bookFace.loan(amy, spelling, TYPICAL_DATE);
+        LoanConsistency.check(bookFace);
+    }
+
+    @Test
+    public void check_loanedBookWithoutReturnDate_throwsIllegalStateException() {
+        amy.addLoanedBook(spelling);
+        assertThrows(IllegalStateException.class, String.format(LoanConsistency.MESSAGE_NO_RETURN_DATE, spelling,
+                amy.getName()), () -> LoanConsistency.check(bookFace));
+    }
+
+    @Test
+    public void check_loanedBookNotInBookList_throwsIllegalStateException() {
+        Book motivation = new BookBuilder().withTitle("Get Motivated").build();
+        motivation.loanTo(amy, TYPICAL_DATE);
+        amy.addLoanedBook(motivation);
+        assertThrows(IllegalStateException.class, String.format(LoanConsistency.MESSAGE_NOT_IN_BOOK_LIST, motivation,
+                amy.getName()), () -> LoanConsistency.check(bookFace));
+    }
+
+    @Test
+    public void check_loanedBookWithoutLoanee_throwsIllegalStateException() {
+        spelling.loanTo(amy, TYPICAL_DATE);
+        assertThrows(IllegalStateException.class, String.format(LoanConsistency.MESSAGE_NO_LOANEE, spelling), () ->
+                LoanConsistency.check(bookFace));
+    }
+}
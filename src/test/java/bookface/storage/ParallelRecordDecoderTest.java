@@ -0,0 +1,109 @@
+package bookface.storage;
+
+import static bookface.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import org.junit.jupiter.api.Test;
+
+import bookface.commons.exceptions.IllegalValueException;
+import bookface.model.BookFace;
+import bookface.model.book.Title;
+import bookface.model.person.Name;
+import bookface.model.person.Person;
+
+public class ParallelRecordDecoderTest {
+
+    private static final int RECORD_COUNT = ParallelRecordDecoder.BATCH_SIZE * 4 + 7;
+
+    @Test
+    public void finish_manyRecords_addedInOrder() throws Exception {
+        ParallelRecordDecoder decoder = new ParallelRecordDecoder();
+        List<String> expectedNames = new ArrayList<>();
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            decoder.handlePerson(person("Person " + i), i);
+            expectedNames.add("Person " + i);
+            decoder.handleBook(book("Book " + i), i);
+        }
+
+        BookFace bookFace = decoder.finish();
+        List<String> names = new ArrayList<>();
+        for (Person person : bookFace.getPersonList()) {
+            names.add(person.getName().fullName);
+        }
+        assertEquals(expectedNames, names);
+        assertEquals(RECORD_COUNT, bookFace.getBookList().size());
+        assertEquals("Book " + (RECORD_COUNT - 1), bookFace.getBookList().get(RECORD_COUNT - 1).getTitle().bookTitle);
+    }
+
+    @Test
+    public void finish_severalInvalidRecords_firstInFileOrderReported() {
+        // the later batches hold invalid records too, and may well be converted first
+        IntFunction<String> nameOf = i -> i == 300 || (i > 300 && i % 97 == 0) ? "Invalid*" : "Person " + i;
+        String expectedMessage = String.format(ParallelRecordDecoder.MESSAGE_INVALID_RECORD, "person", 301,
+                Name.MESSAGE_CONSTRAINTS);
+        assertThrows(IllegalValueException.class, expectedMessage, () ->
+                handlePersons(new ParallelRecordDecoder(), RECORD_COUNT, nameOf).finish());
+    }
+
+    @Test
+    public void finish_duplicateAcrossBatches_reportedBeforeLaterInvalidRecord() {
+        IntFunction<String> nameOf = i -> i == ParallelRecordDecoder.BATCH_SIZE + 1 ? "Person 0"
+                : i == RECORD_COUNT - 1 ? "Invalid*" : "Person " + i;
+        String expectedMessage = String.format(ParallelRecordDecoder.MESSAGE_INVALID_RECORD, "person",
+                ParallelRecordDecoder.BATCH_SIZE + 2, JsonSerializableBookFace.MESSAGE_DUPLICATE_PERSON);
+        assertThrows(IllegalValueException.class, expectedMessage, () ->
+                handlePersons(new ParallelRecordDecoder(), RECORD_COUNT, nameOf).finish());
+    }
+
+    @Test
+    public void finish_nullRecord_throwsIllegalValueException() throws Exception {
+        ParallelRecordDecoder decoder = new ParallelRecordDecoder();
+        decoder.handleBook(book("Book"), 0);
+        decoder.handleBook(null, 1);
+        assertThrows(IllegalValueException.class, String.format(ParallelRecordDecoder.MESSAGE_INVALID_RECORD,
+                "book", 2, JsonAdaptedBook.INVALID_BOOK_FORMAT), decoder::finish);
+    }
+
+    @Test
+    public void finish_invalidRecordAfterSkippedRecords_numberedByPositionInFile() throws Exception {
+        ParallelRecordDecoder decoder = new ParallelRecordDecoder();
+        // the books at positions 1 to 3 in the file are loaned, so they are handled along with their loanees
+        decoder.handleBook(book("Book"), 0);
+        decoder.handleBook(book(" "), 4);
+        assertThrows(IllegalValueException.class, String.format(ParallelRecordDecoder.MESSAGE_INVALID_RECORD,
+                "book", 5, Title.MESSAGE_CONSTRAINTS), decoder::finish);
+    }
+
+    @Test
+    public void handlePerson_invalidRecordInEarlyBatch_reportedBeforeFinish() {
+        int recordCount = (ParallelRecordDecoder.MAX_PENDING_BATCHES + 2) * ParallelRecordDecoder.BATCH_SIZE;
+        String expectedMessage = String.format(ParallelRecordDecoder.MESSAGE_INVALID_RECORD, "person", 1,
+                Name.MESSAGE_CONSTRAINTS);
+        // the converted batches are added while records are still being handled, so the error surfaces early
+        assertThrows(IllegalValueException.class, expectedMessage, () ->
+                handlePersons(new ParallelRecordDecoder(), recordCount, i -> i == 0 ? "Invalid*" : "Person " + i));
+    }
+
+    /**
+     * Passes {@code count} persons named by {@code nameOf} to {@code decoder}, and returns {@code decoder}.
+     */
+    private static ParallelRecordDecoder handlePersons(ParallelRecordDecoder decoder, int count,
+            IntFunction<String> nameOf) throws IllegalValueException {
+        for (int i = 0; i < count; i++) {
+            decoder.handlePerson(person(nameOf.apply(i)), i);
+        }
+        return decoder;
+    }
+
+    private static JsonAdaptedPerson person(String name) {
+        return new JsonAdaptedPerson(name, "98765432", "person@example.com", null, null);
+    }
+
+    private static JsonAdaptedBook book(String title) {
+        return new JsonAdaptedBook(title, "Ronald Johnson", "", false);
+    }
+}
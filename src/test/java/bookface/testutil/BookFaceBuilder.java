@@ -1,6 +1,7 @@
 package bookface.testutil;
 
 import bookface.model.BookFace;
+import bookface.model.book.Book;
 import bookface.model.person.Person;
 
 /**
@@ -24,6 +25,14 @@ public class BookFaceBuilder {
         return this;
     }
 
+    /**
+     * Adds a new {@code Book} to the {@code BookFace} that we are building.
+     */
+    public BookFaceBuilder withBook(Book book) {
+        bookFace.addBook(book);
+        return this;
+    }
+
     public BookFace build() {
         return bookFace;
     }
@@ -9,6 +9,7 @@ import java.util.List;
 
 import bookface.commons.util.StringUtil;
 import bookface.model.ObjectContainsKeywordsPredicate;
+import bookface.model.book.Book;
 import bookface.model.person.Person;
 
 /**
@@ -51,4 +52,27 @@ public class TestUtil {
         return new ObjectContainsKeywordsPredicate<>(userInput, person ->
                 keyword -> StringUtil.containsPartialWordIgnoreCase(person.getName().fullName, keyword));
     }
+
+    /**
+     * Parses {@code userInput} from a String into a {@code ObjectContainsKeywordsPredicate} over the name, phone and
+     * email of a person.
+     */
+    public static ObjectContainsKeywordsPredicate<Person, String>
+        preparePredicateToCheckPersonDetailsForPartialWordIgnoreCase(String userInput) {
+        return new ObjectContainsKeywordsPredicate<>(Arrays.asList(userInput.split("\\s+")), person ->
+                keyword -> StringUtil.containsPartialWordIgnoreCase(person.getName().fullName, keyword)
+                        || StringUtil.containsPartialWordIgnoreCase(person.getPhone().value, keyword)
+                        || StringUtil.containsPartialWordIgnoreCase(person.getEmail().value, keyword));
+    }
+
+    /**
+     * Parses {@code userInput} from a String into a {@code ObjectContainsKeywordsPredicate} over the title and author
+     * of a book.
+     */
+    public static ObjectContainsKeywordsPredicate<Book, String>
+        preparePredicateToCheckBookForPartialWordIgnoreCase(String userInput) {
+        return new ObjectContainsKeywordsPredicate<>(Arrays.asList(userInput.split("\\s+")), book ->
+                keyword -> StringUtil.containsPartialWordIgnoreCase(book.getTitle().toString(), keyword)
+                        || StringUtil.containsPartialWordIgnoreCase(book.getAuthor().toString(), keyword));
+    }
 }
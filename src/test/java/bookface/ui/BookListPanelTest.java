@@ -0,0 +1,72 @@
+package bookface.ui;
+
+import static bookface.testutil.TypicalDates.TYPICAL_DATE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import bookface.model.book.Book;
+import bookface.testutil.BookBuilder;
+import bookface.testutil.PersonBuilder;
+import javafx.collections.FXCollections;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+
+public class BookListPanelTest {
+
+    private BookListPanel.BookListViewCell cell;
+
+    @BeforeAll
+    public static void startJavaFx() {
+        assumeTrue(JavaFxToolkit.start(), "JavaFX controls cannot be created without a display");
+    }
+
+    @BeforeEach
+    public void setUp() {
+        cell = new BookListPanel(FXCollections.observableArrayList()).new BookListViewCell();
+    }
+
+    @Test
+    public void updateItem_differentBook_labelsReplaced() {
+        Book loanedBook = new BookBuilder().withTitle("Loaned Book").withAuthor("Lim Chee Teck").build();
+        loanedBook.loanTo(new PersonBuilder().withName("Alice Pauline").build(), TYPICAL_DATE);
+        Book availableBook = new BookBuilder().withTitle("Available Book").withAuthor("Ronald Johnson").build();
+
+        cell.updateItem(loanedBook, false);
+        Node card = cell.getGraphic();
+        assertEquals("Loaned Book", getText(card, "#title"));
+        assertEquals(loanedBook.getLoanStatus(), getText(card, "#loanStatus"));
+        assertEquals(loanedBook.getReturnDateString().get(), getText(card, "#returnBy"));
+
+        // the card is reused, with the loan details of the first book cleared
+        cell.updateItem(availableBook, false);
+        assertSame(card, cell.getGraphic());
+        assertEquals("Available Book", getText(card, "#title"));
+        assertEquals("Ronald Johnson", getText(card, "#author"));
+        assertEquals(availableBook.getLoanStatus(), getText(card, "#loanStatus"));
+        assertEquals("", getText(card, "#returnBy"));
+    }
+
+    @Test
+    public void updateItem_empty_cardRemovedThenReused() {
+        cell.updateItem(new BookBuilder().build(), false);
+        Node card = cell.getGraphic();
+
+        cell.updateItem(null, true);
+        assertNull(cell.getGraphic());
+        assertNull(cell.getText());
+
+        cell.updateItem(new BookBuilder().withTitle("Another Book").build(), false);
+        assertSame(card, cell.getGraphic());
+        assertEquals("Another Book", getText(card, "#title"));
+    }
+
+    private static String getText(Node card, String selector) {
+        return ((Label) card.lookup(selector)).getText();
+    }
+}
@@ -0,0 +1,112 @@
+package bookface.ui;
+
+import static bookface.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import bookface.logic.commands.exceptions.CommandException;
+
+public class CommandWorkerTest {
+
+    private static final String UI_THREAD_NAME = "test UI thread";
+
+    private final ExecutorService uiExecutor = Executors.newSingleThreadExecutor(runnable ->
+            new Thread(runnable, UI_THREAD_NAME));
+    private final CommandWorker worker = new CommandWorker(uiExecutor);
+
+    @AfterEach
+    public void shutDownUiExecutor() {
+        uiExecutor.shutdownNow();
+    }
+
+    @Test
+    public void submit_task_runOnWorkerAndCompletedOnUiExecutor() throws Exception {
+        List<String> completionThreads = new CopyOnWriteArrayList<>();
+        CountDownLatch dependentRegistered = new CountDownLatch(1);
+        // the task waits for the dependent to be registered, which would otherwise run here if the task finished first
+        CompletableFuture<String> result = worker.submit(() -> {
+            dependentRegistered.await();
+            return Thread.currentThread().getName();
+        });
+        CompletableFuture<Void> completion = result.thenRun(() ->
+                completionThreads.add(Thread.currentThread().getName()));
+        dependentRegistered.countDown();
+        completion.get(5, TimeUnit.SECONDS);
+
+        assertNotEquals(UI_THREAD_NAME, result.get());
+        assertNotEquals(Thread.currentThread().getName(), result.get());
+        assertEquals(List.of(UI_THREAD_NAME), completionThreads);
+    }
+
+    @Test
+    public void submit_severalTasks_runInOrderOneAtATime() throws Exception {
+        CountDownLatch firstTaskRelease = new CountDownLatch(1);
+        List<Integer> order = new CopyOnWriteArrayList<>();
+        CompletableFuture<Void> first = worker.submit(() -> {
+            firstTaskRelease.await();
+            order.add(1);
+            return null;
+        });
+        CompletableFuture<Void> second = worker.submit(() -> {
+            order.add(2);
+            return null;
+        });
+
+        Thread.sleep(50);
+        assertFalse(second.isDone());
+        firstTaskRelease.countDown();
+        CompletableFuture.allOf(first, second).get(5, TimeUnit.SECONDS);
+        assertEquals(List.of(1, 2), order);
+    }
+
+    @Test
+    public void submit_failingTask_completedExceptionallyWithCause() throws Exception {
+        CommandException failure = new CommandException("failure");
+        CompletableFuture<Object> result = worker.submit(() -> {
+            throw failure;
+        });
+
+        Throwable error = result.handle((value, e) -> e).get(5, TimeUnit.SECONDS);
+        assertSame(failure, error);
+        assertTrue(result.isCompletedExceptionally());
+    }
+
+    @Test
+    public void shutDownAfter_pendingTasks_taskRunAfterThem() throws Exception {
+        CountDownLatch firstTaskRelease = new CountDownLatch(1);
+        List<Integer> order = new CopyOnWriteArrayList<>();
+        worker.submit(() -> {
+            firstTaskRelease.await();
+            order.add(1);
+            return null;
+        });
+        worker.submit(() -> order.add(2));
+        firstTaskRelease.countDown();
+
+        worker.shutDownAfter(() -> order.add(3));
+        assertEquals(List.of(1, 2, 3), order);
+        assertThrows(RejectedExecutionException.class, () -> worker.submit(() -> order.add(4)));
+    }
+
+    @Test
+    public void shutDownAfter_failingTask_exceptionRethrown() {
+        assertThrows(IllegalStateException.class, "failure", () -> worker.shutDownAfter(() -> {
+            throw new IllegalStateException("failure");
+        }));
+    }
+}
@@ -0,0 +1,30 @@
+package bookface.ui;
+
+import javafx.application.Platform;
+
+/**
+ * Starts the JavaFX toolkit for the tests of controls, which cannot be created until it is started.
+ */
+class JavaFxToolkit {
+
+    private static Boolean isStarted;
+
+    /**
+     * Starts the JavaFX toolkit if it has not been started, and returns false if it cannot be started, such as when
+     * there is no display.
+     */
+    static synchronized boolean start() {
+        if (isStarted == null) {
+            try {
+                Platform.startup(() -> { });
+                isStarted = true;
+            } catch (IllegalStateException ise) {
+                // started by another test
+                isStarted = true;
+            } catch (RuntimeException e) {
+                isStarted = false;
+            }
+        }
+        return isStarted;
+    }
+}
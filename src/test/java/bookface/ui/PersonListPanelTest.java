@@ -0,0 +1,95 @@
+package bookface.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import bookface.model.book.Book;
+import bookface.model.person.Person;
+import bookface.testutil.BookBuilder;
+import bookface.testutil.PersonBuilder;
+import javafx.collections.FXCollections;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.layout.Pane;
+
+public class PersonListPanelTest {
+
+    private PersonListPanel.PersonListViewCell cell;
+
+    @BeforeAll
+    public static void startJavaFx() {
+        assumeTrue(JavaFxToolkit.start(), "JavaFX controls cannot be created without a display");
+    }
+
+    @BeforeEach
+    public void setUp() {
+        cell = new PersonListPanel(FXCollections.observableArrayList()).new PersonListViewCell();
+    }
+
+    @Test
+    public void updateItem_differentPerson_labelsReplaced() {
+        Book firstBook = new BookBuilder().withTitle("First Book").build();
+        Book secondBook = new BookBuilder().withTitle("Second Book").build();
+        Person loanee = new PersonBuilder().withName("Alice Pauline").withTags("friends", "owesMoney").build();
+        loanee.addLoanedBook(firstBook);
+        loanee.addLoanedBook(secondBook);
+        Person otherPerson = new PersonBuilder().withName("Benson Meier").withPhone("98765432")
+                .withTags("colleagues").build();
+
+        cell.updateItem(loanee, false);
+        Node card = cell.getGraphic();
+        assertEquals("Alice Pauline", getText(card, "#name"));
+        assertEquals(2, getLabelTexts(card, "#books").size());
+        assertEquals(List.of("friends", "owesMoney"), getLabelTexts(card, "#tags"));
+
+        // the card is reused, with the labels of the first person replaced or removed
+        cell.updateItem(otherPerson, false);
+        assertSame(card, cell.getGraphic());
+        assertEquals("Benson Meier", getText(card, "#name"));
+        assertEquals("98765432", getText(card, "#phone"));
+        assertEquals(List.of(), getLabelTexts(card, "#books"));
+        assertEquals(List.of("colleagues"), getLabelTexts(card, "#tags"));
+
+        cell.updateItem(loanee, false);
+        assertSame(card, cell.getGraphic());
+        assertEquals(Set.of(firstBook.toString(), secondBook.toString()), Set.copyOf(getLabelTexts(card, "#books")));
+        assertEquals(List.of("friends", "owesMoney"), getLabelTexts(card, "#tags"));
+    }
+
+    @Test
+    public void updateItem_empty_cardRemovedThenReused() {
+        Person person = new PersonBuilder().withTags("friends").build();
+        cell.updateItem(person, false);
+        Node card = cell.getGraphic();
+
+        cell.updateItem(null, true);
+        assertNull(cell.getGraphic());
+        assertNull(cell.getText());
+
+        Person otherPerson = new PersonBuilder().withName("Carl Kurz").build();
+        cell.updateItem(otherPerson, false);
+        assertSame(card, cell.getGraphic());
+        assertEquals("Carl Kurz", getText(card, "#name"));
+        assertEquals(List.of(), getLabelTexts(card, "#tags"));
+    }
+
+    private static String getText(Node card, String selector) {
+        return ((Label) card.lookup(selector)).getText();
+    }
+
+    private static List<String> getLabelTexts(Node card, String selector) {
+        return ((Pane) card.lookup(selector)).getChildren().stream()
+                .map(label -> ((Label) label).getText())
+                .collect(Collectors.toList());
+    }
+}
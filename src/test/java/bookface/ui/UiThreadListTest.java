@@ -0,0 +1,76 @@
+package bookface.ui;
+
+import static bookface.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+
+public class UiThreadListTest {
+
+    private final Queue<Runnable> uiTasks = new ArrayDeque<>();
+
+    @Test
+    public void copyOf_sourceChanged_copyChangedOnlyByUiExecutor() {
+        ObservableList<String> source = FXCollections.observableArrayList("a", "b", "c");
+        ObservableList<String> copy = UiThreadList.copyOf(source, uiTasks::add);
+        assertEquals(List.of("a", "b", "c"), copy);
+
+        source.add("d");
+        source.remove("b");
+        source.set(0, "e");
+        assertEquals(List.of("a", "b", "c"), copy);
+
+        runUiTasks();
+        assertEquals(source, copy);
+    }
+
+    @Test
+    public void copyOf_sourceChangedAgainBeforeReplay_copyFollowsEveryChange() {
+        ObservableList<String> source = FXCollections.observableArrayList("a", "b", "c", "d");
+        ObservableList<String> copy = UiThreadList.copyOf(source, uiTasks::add);
+
+        source.setAll("d", "c");
+        source.addAll(1, List.of("x", "y"));
+        FXCollections.sort(source);
+        source.clear();
+        source.add("z");
+
+        runUiTasks();
+        assertEquals(List.of("z"), copy);
+    }
+
+    @Test
+    public void copyOf_filteredSource_copyFollowsPredicate() {
+        ObservableList<Integer> numbers = FXCollections.observableArrayList(1, 2, 3, 4, 5, 6);
+        FilteredList<Integer> source = new FilteredList<>(numbers);
+        ObservableList<Integer> copy = UiThreadList.copyOf(source, uiTasks::add);
+
+        source.setPredicate(number -> number % 2 == 0);
+        numbers.addAll(7, 8);
+        source.setPredicate(number -> number > 4);
+        numbers.remove(Integer.valueOf(5));
+
+        runUiTasks();
+        assertEquals(List.of(6, 7, 8), copy);
+    }
+
+    @Test
+    public void copyOf_modifyCopy_throwsUnsupportedOperationException() {
+        ObservableList<String> copy = UiThreadList.copyOf(FXCollections.observableArrayList("a"), uiTasks::add);
+        assertThrows(UnsupportedOperationException.class, () -> copy.add("b"));
+    }
+
+    private void runUiTasks() {
+        while (!uiTasks.isEmpty()) {
+            uiTasks.remove().run();
+        }
+    }
+}